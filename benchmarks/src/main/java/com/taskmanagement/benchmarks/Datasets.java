@@ -0,0 +1,122 @@
+package com.taskmanagement.benchmarks;
+
+import com.taskmanagement.model.Employee;
+import com.taskmanagement.model.LeaveRequest;
+import com.taskmanagement.model.MissionRequest;
+import com.taskmanagement.model.Priority;
+import com.taskmanagement.model.Project;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskLog;
+import com.taskmanagement.model.TaskPhase;
+import com.taskmanagement.model.Timecard;
+import com.taskmanagement.model.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generated records of every entity type, the same for a given entity and row count on every
+ * run, so results of different releases measure the same data.
+ */
+public class Datasets {
+    public static final String USERS = "users";
+    public static final String EMPLOYEES = "employees";
+    public static final String PROJECTS = "projects";
+    public static final String TASKS = "tasks";
+    public static final String TASK_LOGS = "tasklogs";
+    public static final String TIMECARDS = "timecards";
+    public static final String LEAVE_REQUESTS = "leaverequests";
+    public static final String MISSION_REQUESTS = "missionrequests";
+
+    private static final long SEED = 42;
+    private static final int EMPLOYEE_IDS = 300;
+    private static final int TASK_CODES = 2_000;
+    private static final int PROJECT_IDS = 50;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final String[] STATUSES = {"PENDING", "APPROVED", "REJECTED"};
+
+    private Datasets() {
+    }
+
+    public static Class<?> typeOf(String entity) {
+        switch (entity) {
+            case USERS: return User.class;
+            case EMPLOYEES: return Employee.class;
+            case PROJECTS: return Project.class;
+            case TASKS: return Task.class;
+            case TASK_LOGS: return TaskLog.class;
+            case TIMECARDS: return Timecard.class;
+            case LEAVE_REQUESTS: return LeaveRequest.class;
+            case MISSION_REQUESTS: return MissionRequest.class;
+            default: throw new IllegalArgumentException("Unknown entity: " + entity);
+        }
+    }
+
+    /**
+     * Returns the given number of records of an entity type.
+     */
+    public static List<Object> generate(String entity, int rows) {
+        Random random = new Random(SEED);
+        String[] employeeIds = ids(random, EMPLOYEE_IDS);
+        String[] taskCodes = ids(random, TASK_CODES);
+        String[] projectIds = ids(random, PROJECT_IDS);
+        List<Object> records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            records.add(record(entity, i, random, employeeIds, taskCodes, projectIds));
+        }
+        return records;
+    }
+
+    private static Object record(String entity, int i, Random random, String[] employeeIds, String[] taskCodes,
+                                 String[] projectIds) {
+        String id = new UUID(random.nextLong(), random.nextLong()).toString();
+        String employeeId = employeeIds[random.nextInt(employeeIds.length)];
+        LocalDateTime time = START.plusMinutes(30L * i);
+        switch (entity) {
+            case USERS:
+                return new User(id, "user" + i, "$2a$10$" + id.replace("-", ""), "EMPLOYEE", "user" + i + "@example.com");
+            case EMPLOYEES:
+                return new Employee(id, "Employee " + i, "employee" + i + "@example.com", "+20100" + i, "Developer",
+                        id, "Engineering", 10_000 + random.nextInt(20_000));
+            case PROJECTS:
+                return new Project(id, "Project " + i, "Description of project " + i, "Customer " + (i % 97),
+                        time, time.plusMonths(3), "Active");
+            case TASKS:
+                return new Task("T-" + i, "Task " + i, "Description of task " + i, employeeId,
+                        TaskPhase.values()[random.nextInt(TaskPhase.values().length)],
+                        projectIds[random.nextInt(projectIds.length)],
+                        Priority.values()[random.nextInt(Priority.values().length)], employeeIds[0],
+                        time, time.plusDays(5), 8 + random.nextInt(40));
+            case TASK_LOGS:
+                return new TaskLog(id, taskCodes[random.nextInt(taskCodes.length)], employeeId,
+                        time, time.plusHours(2), null);
+            case TIMECARDS:
+                return new Timecard(id, employeeId, time, time.plusHours(8), "");
+            case LEAVE_REQUESTS:
+                LocalDate start = time.toLocalDate();
+                LeaveRequest leave = new LeaveRequest(id, employeeId, "ANNUAL", start, start.plusDays(random.nextInt(5)),
+                        "Leave " + i);
+                leave.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                return leave;
+            case MISSION_REQUESTS:
+                MissionRequest mission = new MissionRequest(id, employeeId, "MISSION", time, time.plusHours(3),
+                        "Site " + (i % 20), "Mission " + i);
+                mission.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                return mission;
+            default:
+                throw new IllegalArgumentException("Unknown entity: " + entity);
+        }
+    }
+
+    private static String[] ids(Random random, int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong()).toString();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanagement.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import com.taskmanagement.util.FileManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileManager.saveToFile and loadFromFile on every entity type, as the application runs them:
+ * pretty-printed JSON, a 64 KB write buffer and a forced write to disk on save.
+ * Files are written to data/benchmarks/ under the working directory and removed afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FileManagerBenchmark {
+    private static final String DIRECTORY = "benchmarks";
+
+    @Param({Datasets.USERS, Datasets.EMPLOYEES, Datasets.PROJECTS, Datasets.TASKS, Datasets.TASK_LOGS,
+            Datasets.TIMECARDS, Datasets.LEAVE_REQUESTS, Datasets.MISSION_REQUESTS})
+    public String entity;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private List<Object> records;
+    private Type listType;
+    private String loadFile;
+    private String saveFile;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        records = Datasets.generate(entity, rows);
+        listType = TypeToken.getParameterized(List.class, Datasets.typeOf(entity)).getType();
+        loadFile = DIRECTORY + "/" + entity + "-" + rows + ".json";
+        saveFile = DIRECTORY + "/" + entity + "-" + rows + "-saved.json";
+        FileManager.saveToFile(records, loadFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(FileManager.dataPath(loadFile));
+        Files.deleteIfExists(FileManager.dataPath(saveFile));
+    }
+
+    @Benchmark
+    public void save() {
+        FileManager.saveToFile(records, saveFile);
+    }
+
+    @Benchmark
+    public List<Object> load() {
+        return FileManager.loadFromFile(loadFile, listType);
+    }
+}
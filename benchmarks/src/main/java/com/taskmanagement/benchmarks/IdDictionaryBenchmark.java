@@ -0,0 +1,85 @@
+package com.taskmanagement.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.taskmanagement.util.IdDictionary;
+import com.taskmanagement.util.LocalDateTimeAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading task logs with and without id interning (storage.internIds): the parse time is the score,
+ * and the heap the loaded rows retain is printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IdDictionaryBenchmark {
+
+    @Param({"false", "true"})
+    public boolean internIds;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Gson gson;
+    private Type listType;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        IdDictionary.setEnabled(internIds);
+        gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .create();
+        listType = TypeToken.getParameterized(List.class, Datasets.typeOf(Datasets.TASK_LOGS)).getType();
+        json = gson.toJson(Datasets.generate(Datasets.TASK_LOGS, rows), listType);
+    }
+
+    @Benchmark
+    public List<Object> load() {
+        return gson.fromJson(json, listType);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRetainedHeap() {
+        long before = usedHeap();
+        List<Object> logs = load();
+        long retained = usedHeap() - before;
+        System.out.printf("%ninternIds=%b: %,d rows retain %,d bytes (%d bytes/row)%n",
+                internIds, logs.size(), retained, retained / logs.size());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
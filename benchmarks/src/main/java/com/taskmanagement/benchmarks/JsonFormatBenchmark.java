@@ -0,0 +1,119 @@
+package com.taskmanagement.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.taskmanagement.util.FileManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pretty-printed vs. compact JSON, each written and read with and without a buffer in front of
+ * the file stream. "unbuffered" is a plain stream writer/reader, as used without a
+ * BufferedWriter/BufferedReader; "buffered" adds a 64 KB buffer, like FileManager.
+ * Nothing is forced to disk, so this measures formatting and I/O calls rather than the device.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JsonFormatBenchmark {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Param({"pretty", "compact"})
+    public String format;
+
+    @Param({"buffered", "unbuffered"})
+    public String io;
+
+    @Param({Datasets.TASK_LOGS})
+    public String entity;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private Gson gson;
+    private List<Object> records;
+    private Type listType;
+    private Path directory;
+    private Path readFile;
+    private Path writeFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        GsonBuilder builder = FileManager.gsonBuilder();
+        gson = "pretty".equals(format) ? builder.setPrettyPrinting().create() : builder.create();
+        records = Datasets.generate(entity, rows);
+        listType = TypeToken.getParameterized(List.class, Datasets.typeOf(entity)).getType();
+        directory = Files.createTempDirectory("json-format");
+        readFile = directory.resolve("read.json");
+        writeFile = directory.resolve("write.json");
+        try (Writer writer = openWriter(readFile)) {
+            gson.toJson(records, listType, writer);
+        }
+    }
+
+    /**
+     * Prints the size of the dataset in this format, so reports can relate time to bytes.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.printf("%n%s %s x %d: %,d bytes%n", format, entity, rows, Files.size(readFile));
+        Files.deleteIfExists(readFile);
+        Files.deleteIfExists(writeFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        try (Writer writer = openWriter(writeFile)) {
+            gson.toJson(records, listType, writer);
+        }
+    }
+
+    @Benchmark
+    public List<Object> read() throws IOException {
+        try (Reader reader = openReader(readFile)) {
+            return gson.fromJson(reader, listType);
+        }
+    }
+
+    private Writer openWriter(Path file) throws IOException {
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file.toFile()), StandardCharsets.UTF_8);
+        return "buffered".equals(io) ? new BufferedWriter(writer, BUFFER_SIZE) : writer;
+    }
+
+    private Reader openReader(Path file) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(file.toFile()), StandardCharsets.UTF_8);
+        return "buffered".equals(io) ? new BufferedReader(reader, BUFFER_SIZE) : reader;
+    }
+}
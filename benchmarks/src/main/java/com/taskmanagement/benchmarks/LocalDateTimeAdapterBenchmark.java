@@ -0,0 +1,161 @@
+package com.taskmanagement.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.taskmanagement.util.LocalDateTimeAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of LocalDateTimeAdapter, per value and over a whole timecard file.
+ * Per value, the adapter is compared with formatting and parsing alone; over a file, with a
+ * streaming TypeAdapter that skips the JsonPrimitive built for every value. Both Gson instances
+ * differ only in that adapter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LocalDateTimeAdapterBenchmark {
+    private static final int VALUES = 1_000;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Param({"100000"})
+    public int rows;
+
+    private final LocalDateTimeAdapter adapter = new LocalDateTimeAdapter();
+    private LocalDateTime[] times;
+    private String[] texts;
+    private JsonPrimitive[] primitives;
+
+    private Gson adapterGson;
+    private Gson streamingGson;
+    private List<Object> timecards;
+    private Type listType;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        times = new LocalDateTime[VALUES];
+        texts = new String[VALUES];
+        primitives = new JsonPrimitive[VALUES];
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < VALUES; i++) {
+            times[i] = time.plusMinutes(i * 97L).plusSeconds(i % 60);
+            texts[i] = times[i].format(FORMATTER);
+            primitives[i] = new JsonPrimitive(texts[i]);
+        }
+
+        adapterGson = new GsonBuilder().registerTypeAdapter(LocalDateTime.class, adapter).create();
+        streamingGson = new GsonBuilder().registerTypeAdapter(LocalDateTime.class, new StreamingAdapter()).create();
+        timecards = Datasets.generate(Datasets.TIMECARDS, rows);
+        listType = TypeToken.getParameterized(List.class, Datasets.typeOf(Datasets.TIMECARDS)).getType();
+        json = adapterGson.toJson(timecards, listType);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void serializeWithAdapter(Blackhole blackhole) {
+        for (LocalDateTime time : times) {
+            blackhole.consume(adapter.serialize(time, LocalDateTime.class, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void formatOnly(Blackhole blackhole) {
+        for (LocalDateTime time : times) {
+            blackhole.consume(time.format(FORMATTER));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void deserializeWithAdapter(Blackhole blackhole) {
+        for (JsonPrimitive primitive : primitives) {
+            blackhole.consume(adapter.deserialize(primitive, LocalDateTime.class, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseOnly(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(LocalDateTime.parse(text, FORMATTER));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String writeTimecardsWithAdapter() {
+        return adapterGson.toJson(timecards, listType);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String writeTimecardsStreaming() {
+        return streamingGson.toJson(timecards, listType);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Object> readTimecardsWithAdapter() {
+        return adapterGson.fromJson(json, listType);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Object> readTimecardsStreaming() {
+        return streamingGson.fromJson(json, listType);
+    }
+
+    /**
+     * Baseline that writes and reads the same ISO text straight from the JSON stream.
+     */
+    private static class StreamingAdapter extends TypeAdapter<LocalDateTime> {
+        @Override
+        public void write(JsonWriter out, LocalDateTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value.format(FORMATTER));
+            }
+        }
+
+        @Override
+        public LocalDateTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return LocalDateTime.parse(in.nextString(), FORMATTER);
+        }
+    }
+}
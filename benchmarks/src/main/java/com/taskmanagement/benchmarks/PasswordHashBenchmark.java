@@ -0,0 +1,47 @@
+package com.taskmanagement.benchmarks;
+
+import com.taskmanagement.util.BCryptPasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt verify latency per cost, i.e. what one login costs, to help choose security.bcrypt.cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PasswordHashBenchmark {
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({"8", "9", "10", "11", "12", "13", "14"})
+    public int cost;
+
+    private BCryptPasswordHasher hasher;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hasher = new BCryptPasswordHasher(cost);
+        hash = hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hasher.verify(PASSWORD, hash);
+    }
+}
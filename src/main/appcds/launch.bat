@@ -0,0 +1,57 @@
+@echo off
+rem Starts the Task Management System with the class-data sharing archive next to the jar.
+rem
+rem   launch.bat                   run the application (with the archive when there is one)
+rem   launch.bat --create-archive  rebuild the archive for this JDK and this jar location
+rem   launch.bat --no-cds          run without the archive, e.g. to compare startup times
+rem
+rem Extra arguments are passed to java; quote options with "=", e.g. "-Dstartup.report=startup.csv"
+rem to log startup phases.
+
+setlocal
+set "DIR=%~dp0"
+set "JAR=%DIR%@project.build.finalName@.jar"
+set "ARCHIVE=%DIR%@project.build.finalName@.jsa"
+set "CLASS_LIST=%DIR%@project.build.finalName@.classlist"
+set "MAIN=com.taskmanagement.Launcher"
+set "TRAINING_MAIN=com.taskmanagement.TrainingRun"
+if defined JAVA_HOME (set "JAVA=%JAVA_HOME%\bin\java") else (set "JAVA=java")
+
+if "%~1"=="--create-archive" goto create
+if "%~1"=="--no-cds" goto nocds
+
+if exist "%ARCHIVE%" (
+    rem -Xshare:auto falls back to normal class loading if the archive does not match this JDK or jar
+    "%JAVA%" -XX:SharedArchiveFile="%ARCHIVE%" -Xshare:auto %* -cp "%JAR%" %MAIN%
+) else (
+    "%JAVA%" %* -cp "%JAR%" %MAIN%
+)
+goto :eof
+
+:create
+call :collect %*
+rem The training run opens the login window and the dashboard, then exits.
+rem It runs in its own directory so it never touches the real data directory.
+if not exist "%DIR%appcds-training" mkdir "%DIR%appcds-training"
+pushd "%DIR%appcds-training"
+"%JAVA%" -Xshare:off -XX:DumpLoadedClassList="%CLASS_LIST%" %ARGS% -cp "%JAR%" %TRAINING_MAIN%
+set "RESULT=%ERRORLEVEL%"
+popd
+if not "%RESULT%"=="0" exit /b %RESULT%
+"%JAVA%" -Xshare:dump -XX:SharedClassListFile="%CLASS_LIST%" -XX:SharedArchiveFile="%ARCHIVE%" -cp "%JAR%"
+goto :eof
+
+:nocds
+call :collect %*
+"%JAVA%" -Xshare:off %ARGS% -cp "%JAR%" %MAIN%
+goto :eof
+
+rem Sets ARGS to the arguments after the first one
+:collect
+set "ARGS="
+shift
+:next
+if "%~1"=="" goto :eof
+set ARGS=%ARGS% %1
+shift
+goto next
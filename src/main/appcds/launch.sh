@@ -0,0 +1,42 @@
+#!/bin/sh
+# Starts the Task Management System with the class-data sharing archive next to the jar.
+#
+#   launch.sh                   run the application (with the archive when there is one)
+#   launch.sh --create-archive  rebuild the archive for this JDK and this jar location
+#   launch.sh --no-cds          run without the archive, e.g. to compare startup times
+#
+# Extra arguments are passed to java, e.g. -Dstartup.report=startup.csv to log startup phases.
+
+DIR=$(cd "$(dirname "$0")" && pwd)
+JAR="$DIR/@project.build.finalName@.jar"
+ARCHIVE="$DIR/@project.build.finalName@.jsa"
+CLASS_LIST="$DIR/@project.build.finalName@.classlist"
+MAIN=com.taskmanagement.Launcher
+TRAINING_MAIN=com.taskmanagement.TrainingRun
+if [ -n "$JAVA_HOME" ]; then
+    JAVA="$JAVA_HOME/bin/java"
+else
+    JAVA=java
+fi
+
+case "$1" in
+    --create-archive)
+        shift
+        # The training run opens the login window and the dashboard, then exits.
+        # It runs in its own directory so it never touches the real data directory.
+        mkdir -p "$DIR/appcds-training"
+        (cd "$DIR/appcds-training" && "$JAVA" -Xshare:off -XX:DumpLoadedClassList="$CLASS_LIST" \
+            "$@" -cp "$JAR" $TRAINING_MAIN) || exit 1
+        exec "$JAVA" -Xshare:dump -XX:SharedClassListFile="$CLASS_LIST" -XX:SharedArchiveFile="$ARCHIVE" -cp "$JAR"
+        ;;
+    --no-cds)
+        shift
+        exec "$JAVA" -Xshare:off "$@" -cp "$JAR" $MAIN
+        ;;
+esac
+
+if [ -f "$ARCHIVE" ]; then
+    # -Xshare:auto falls back to normal class loading if the archive does not match this JDK or jar
+    exec "$JAVA" -XX:SharedArchiveFile="$ARCHIVE" -Xshare:auto "$@" -cp "$JAR" $MAIN
+fi
+exec "$JAVA" "$@" -cp "$JAR" $MAIN
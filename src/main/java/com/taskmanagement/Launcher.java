@@ -0,0 +1,13 @@
+package com.taskmanagement;
+
+/**
+ * Entry point of the shaded jar. Main extends Application, and the Java launcher refuses to start
+ * such a class from the class path unless JavaFX is on the module path; starting it from here
+ * loads JavaFX from the jar like any other library (and lets class-data sharing archive it).
+ */
+public class Launcher {
+
+    public static void main(String[] args) {
+        Main.main(args);
+    }
+}
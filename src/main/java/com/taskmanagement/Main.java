@@ -1,53 +1,121 @@
 package com.taskmanagement;
 
 import com.taskmanagement.model.User;
+import com.taskmanagement.repository.EffortLedger;
+import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.PasswordUtil;
+import com.taskmanagement.util.PersistenceQueue;
+import com.taskmanagement.util.StartupTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
  * Main application entry point for the Task Management System.
  * Initializes default data and launches the login screen.
+ * Startup phases are timed with {@link StartupTimer} and reported once the login window is painted.
  */
 public class Main extends Application {
-
     @Override
     public void start(Stage primaryStage) throws Exception {
+        // JVM start, JavaFX toolkit start-up and class loading up to here
+        StartupTimer.mark("class init");
+
+        FileManager.checkDataDir();
+        PersistenceQueue.getInstance().setFailureListener(e -> Platform.runLater(() -> showSaveFailure(e)));
+        StartupTimer.mark("data-dir check");
+
         // Initialize default data if needed
         initializeDefaultData();
-        
+        StartupTimer.mark("user check");
+
         // Load and show the login screen
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/login.fxml"));
-        Scene scene = new Scene(loader.load(), 500, 400);
-        
+        Parent root = loader.load();
+        StartupTimer.mark("FXML load");
+
+        Scene scene = new Scene(root, 500, 400);
+        afterFirstPaint(scene, () -> {
+            StartupTimer.mark("first paint");
+            loginPainted(primaryStage);
+        });
         primaryStage.setTitle("Task Management System - Login");
         primaryStage.setScene(scene);
         primaryStage.show();
     }
 
+    /**
+     * Writes any queued changes to disk before the application exits.
+     */
+    @Override
+    public void stop() {
+        EffortLedger.shutdown();
+        PersistenceQueue.getInstance().shutdown();
+    }
+
+    /**
+     * Warns that queued changes could not be written. The queue keeps them and retries.
+     */
+    private static void showSaveFailure(Exception e) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Save Failed");
+        alert.setHeaderText("Your changes could not be saved");
+        alert.setContentText("Writing to the data folder failed: " + e.getMessage()
+                + "\nThe changes are kept and saving will be retried. Keep the application open until it succeeds.");
+        alert.show();
+    }
+
+    /**
+     * Runs an action once the pulse that lays out and draws the first frame of a scene is over.
+     */
+    static void afterFirstPaint(Scene scene, Runnable action) {
+        Runnable firstPulse = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                Platform.runLater(action);
+            }
+        };
+        scene.addPostLayoutPulseListener(firstPulse);
+    }
+
+    /**
+     * Called once the login window is painted; startup is over, so its timings are reported.
+     */
+    void loginPainted(Stage stage) {
+        StartupTimer.report();
+    }
+
     /**
      * Initializes default admin user if no users exist in the system.
+     * A users file that starts with a record and has no journal needs nothing more; otherwise
+     * the users are loaded on a worker thread, which also warms the login lookup.
      */
     private void initializeDefaultData() {
-        List<User> users = FileManager.loadUsers();
-        if (users.isEmpty()) {
-            User admin = new User(
+        if (FileManager.snapshotHasRecords(FileManager.USERS) && FileManager.USERS.getJournalFile().length() == 0) {
+            return;
+        }
+        Thread worker = new Thread(() -> {
+            boolean created = UserRepository.getInstance().saveIfEmpty(() -> new User(
                 UUID.randomUUID().toString(),
                 "admin",
                 PasswordUtil.hashPassword("admin123"),
                 "ADMIN",
                 "admin@taskmanagement.com"
-            );
-            users.add(admin);
-            FileManager.saveUsers(users);
-            System.out.println("✓ Default admin user created: username=admin, password=admin123");
-        }
+            ));
+            if (created) {
+                System.out.println("✓ Default admin user created: username=admin, password=admin123");
+            }
+        }, "default-data");
+        worker.setDaemon(true);
+        worker.start();
     }
 
     public static void main(String[] args) {
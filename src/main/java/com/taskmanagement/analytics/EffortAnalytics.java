@@ -0,0 +1,218 @@
+package com.taskmanagement.analytics;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskPhase;
+import com.taskmanagement.repository.EffortLedger;
+import com.taskmanagement.repository.TaskRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estimated vs. logged hours grouped by project, employee, task phase or week.
+ * Logged hours are summed over {@link TaskLogColumns} in parallel: the rows are split
+ * into ranges on the common fork/join pool, each range fills its own per-group arrays
+ * and the partial arrays are added together. Estimates come from the tasks in the group;
+ * weeks only carry logged hours because a task estimate is not tied to a week.
+ */
+public class EffortAnalytics {
+    private static final int ROWS_PER_TASK = 1 << 16;
+
+    public enum Dimension {
+        PROJECT, EMPLOYEE, PHASE, WEEK
+    }
+
+    private EffortAnalytics() {
+    }
+
+    /**
+     * Estimated vs. logged hours per project from the tasks and the running totals of
+     * {@link EffortLedger}, without reading the task logs. The ledger does not count logs, so
+     * the log count is 0. Projects come in order of their first task.
+     */
+    public static List<EffortSummary> projectTotals() {
+        EffortLedger ledger = EffortLedger.getInstance();
+        Map<String, double[]> byProject = new LinkedHashMap<>();
+        for (Task task : TaskRepository.getInstance().findAll()) {
+            if (task.getProjectId() == null) {
+                continue;
+            }
+            double[] hours = byProject.computeIfAbsent(task.getProjectId(), p -> new double[2]);
+            hours[0] += task.getEstimationHours();
+            hours[1] += ledger.getTaskHours(task.getCode());
+        }
+        List<EffortSummary> result = new ArrayList<>();
+        for (Map.Entry<String, double[]> project : byProject.entrySet()) {
+            double[] hours = project.getValue();
+            if (hours[0] != 0 || hours[1] != 0) {
+                result.add(new EffortSummary(project.getKey(), hours[0], hours[1], 0));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns one summary per non-empty group: projects and employees in order of first
+     * appearance in the data, phases in phase order and weeks in date order.
+     */
+    public static List<EffortSummary> groupBy(TaskLogColumns data, Dimension dimension) {
+        Grouping grouping = new Grouping(data, dimension);
+        Partial logged = ForkJoinPool.commonPool().invoke(new SumTask(grouping, 0, data.rowCount));
+
+        double[] estimated = new double[grouping.groupCount];
+        if (dimension != Dimension.WEEK) {
+            for (int task = 0; task < data.taskCount; task++) {
+                int group = grouping.groupOfTask(task);
+                if (group >= 0) {
+                    estimated[group] += data.taskEstimates[task];
+                }
+            }
+        }
+
+        List<EffortSummary> result = new ArrayList<>();
+        for (int group = 0; group < grouping.groupCount; group++) {
+            if (logged.counts[group] > 0 || estimated[group] != 0) {
+                result.add(new EffortSummary(grouping.keyOf(group), estimated[group],
+                        logged.hours[group], logged.counts[group]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maps rows and tasks of one data set to dense group numbers for one dimension.
+     */
+    private static final class Grouping {
+        private final TaskLogColumns data;
+        private final Dimension dimension;
+        private final int groupCount;
+        private final long firstWeek;
+
+        Grouping(TaskLogColumns data, Dimension dimension) {
+            this.data = data;
+            this.dimension = dimension;
+            switch (dimension) {
+                case PHASE:
+                    groupCount = TaskPhase.values().length + 1;
+                    firstWeek = 0;
+                    break;
+                case WEEK:
+                    boolean hasDays = data.minEpochDay <= data.maxEpochDay;
+                    firstWeek = hasDays ? weekOf(data.minEpochDay) : 0;
+                    groupCount = hasDays ? (int) (weekOf(data.maxEpochDay) - firstWeek + 1) : 0;
+                    break;
+                case EMPLOYEE:
+                    groupCount = data.employeeIds.size();
+                    firstWeek = 0;
+                    break;
+                default:
+                    groupCount = data.projectIds.size();
+                    firstWeek = 0;
+                    break;
+            }
+        }
+
+        int groupOfRow(int row) {
+            switch (dimension) {
+                case EMPLOYEE:
+                    return data.employees[row];
+                case WEEK:
+                    int epochDay = data.epochDays[row];
+                    return epochDay != TaskLogColumns.NO_DAY ? (int) (weekOf(epochDay) - firstWeek) : -1;
+                default:
+                    int task = data.tasks[row];
+                    return task != TaskLogColumns.NONE ? groupOfTask(task) : -1;
+            }
+        }
+
+        int groupOfTask(int task) {
+            switch (dimension) {
+                case PROJECT:
+                    return data.taskProjects[task];
+                case EMPLOYEE:
+                    return data.taskEmployees[task];
+                case PHASE:
+                    return data.taskPhases[task];
+                default:
+                    return -1;
+            }
+        }
+
+        String keyOf(int group) {
+            switch (dimension) {
+                case PHASE:
+                    TaskPhase phase = TaskPhase.fromCode(group);
+                    return phase != null ? phase.getLabel() : "";
+                case WEEK:
+                    // Epoch day 0 was a Thursday, so week w starts on epoch day 7w - 3 (a Monday)
+                    return LocalDate.ofEpochDay((firstWeek + group) * 7 - 3).toString();
+                case EMPLOYEE:
+                    return data.employeeIds.get(group);
+                default:
+                    return data.projectIds.get(group);
+            }
+        }
+
+        private static long weekOf(long epochDay) {
+            return Math.floorDiv(epochDay + 3, 7);
+        }
+    }
+
+    private static final class Partial {
+        final double[] hours;
+        final int[] counts;
+
+        Partial(int groupCount) {
+            hours = new double[groupCount];
+            counts = new int[groupCount];
+        }
+
+        Partial add(Partial other) {
+            for (int i = 0; i < hours.length; i++) {
+                hours[i] += other.hours[i];
+                counts[i] += other.counts[i];
+            }
+            return this;
+        }
+    }
+
+    private static final class SumTask extends RecursiveTask<Partial> {
+        private static final long serialVersionUID = 1L;
+
+        private final Grouping grouping;
+        private final int from;
+        private final int to;
+
+        SumTask(Grouping grouping, int from, int to) {
+            this.grouping = grouping;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                Partial partial = new Partial(grouping.groupCount);
+                double[] hours = grouping.data.hours;
+                for (int row = from; row < to; row++) {
+                    int group = grouping.groupOfRow(row);
+                    if (group >= 0 && group < partial.hours.length) {
+                        partial.hours[group] += hours[row];
+                        partial.counts[group]++;
+                    }
+                }
+                return partial;
+            }
+            int mid = (from + to) >>> 1;
+            SumTask left = new SumTask(grouping, from, mid);
+            left.fork();
+            Partial right = new SumTask(grouping, mid, to).compute();
+            return right.add(left.join());
+        }
+    }
+}
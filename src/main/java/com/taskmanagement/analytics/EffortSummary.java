@@ -0,0 +1,47 @@
+package com.taskmanagement.analytics;
+
+/**
+ * Estimated and logged hours for one group of a report (a project, employee, phase or week).
+ */
+public class EffortSummary {
+    private final String key;
+    private final double estimatedHours;
+    private final double actualHours;
+    private final int logCount;
+
+    public EffortSummary(String key, double estimatedHours, double actualHours, int logCount) {
+        this.key = key;
+        this.estimatedHours = estimatedHours;
+        this.actualHours = actualHours;
+        this.logCount = logCount;
+    }
+
+    /**
+     * Project id, employee id, phase label or the Monday of the week (yyyy-MM-dd).
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public double getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public double getActualHours() {
+        return actualHours;
+    }
+
+    public int getLogCount() {
+        return logCount;
+    }
+
+    @Override
+    public String toString() {
+        return "EffortSummary{" +
+                "key='" + key + '\'' +
+                ", estimatedHours=" + estimatedHours +
+                ", actualHours=" + actualHours +
+                ", logCount=" + logCount +
+                '}';
+    }
+}
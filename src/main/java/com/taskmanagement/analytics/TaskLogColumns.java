@@ -0,0 +1,185 @@
+package com.taskmanagement.analytics;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskLog;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.util.FileManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of the task logs and the tasks they belong to, for aggregation.
+ * Each log row is a slot in a few primitive arrays (hours, employee number, task index,
+ * epoch day), so group-by queries scan flat arrays instead of walking TaskLog objects.
+ * Employee and project ids are numbered densely per data set, so per-group arrays are sized
+ * by the employees and projects that actually occur.
+ */
+public final class TaskLogColumns {
+    static final int NONE = -1;
+    static final int NO_DAY = Integer.MIN_VALUE;
+
+    // One slot per task log
+    final int rowCount;
+    final double[] hours;
+    final int[] employees;
+    final int[] tasks;
+    final int[] epochDays;
+
+    // One slot per task, indexed by the values in tasks[]
+    final int taskCount;
+    final int[] taskEmployees;
+    final int[] taskProjects;
+    final int[] taskPhases;
+    final double[] taskEstimates;
+
+    // Ids by number, for the values in employees[], taskEmployees[] and taskProjects[]
+    final List<String> employeeIds;
+    final List<String> projectIds;
+    final int minEpochDay;
+    final int maxEpochDay;
+
+    private TaskLogColumns(Builder builder) {
+        rowCount = builder.rowCount;
+        hours = Arrays.copyOf(builder.hours, rowCount);
+        employees = Arrays.copyOf(builder.employees, rowCount);
+        tasks = Arrays.copyOf(builder.tasks, rowCount);
+        epochDays = Arrays.copyOf(builder.epochDays, rowCount);
+        taskCount = builder.taskCount;
+        taskEmployees = builder.taskEmployees;
+        taskProjects = builder.taskProjects;
+        taskPhases = builder.taskPhases;
+        taskEstimates = builder.taskEstimates;
+        employeeIds = builder.employeeIds.getIds();
+        projectIds = builder.projectIds.getIds();
+        minEpochDay = builder.minEpochDay;
+        maxEpochDay = builder.maxEpochDay;
+    }
+
+    /**
+     * Builds the columns from all stored task logs, streaming them from disk.
+     */
+    public static TaskLogColumns load() {
+        Builder builder = new Builder(TaskRepository.getInstance().findAll());
+        FileManager.forEachMatching(FileManager.TASK_LOGS, log -> true, builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Builds the columns from the task logs dated within [from, to], reading only the months in the range.
+     */
+    public static TaskLogColumns load(LocalDate from, LocalDate to) {
+        Builder builder = new Builder(TaskRepository.getInstance().findAll());
+        FileManager.forEachInRange(FileManager.TASK_LOGS, from, to, log -> true, builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Builds the columns from the given tasks and logs.
+     */
+    public static TaskLogColumns of(List<Task> tasks, Iterable<TaskLog> logs) {
+        Builder builder = new Builder(tasks);
+        for (TaskLog log : logs) {
+            builder.add(log);
+        }
+        return builder.build();
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Numbers the distinct ids of one dimension 0, 1, 2... in order of first use.
+     */
+    private static final class DenseIds {
+        private final Map<String, Integer> numbers = new HashMap<>();
+        private final List<String> ids = new ArrayList<>();
+
+        int numberOf(String id) {
+            if (id == null) {
+                return NONE;
+            }
+            Integer number = numbers.get(id);
+            if (number == null) {
+                number = ids.size();
+                numbers.put(id, number);
+                ids.add(id);
+            }
+            return number;
+        }
+
+        List<String> getIds() {
+            return ids;
+        }
+    }
+
+    private static final class Builder {
+        private final DenseIds employeeIds = new DenseIds();
+        private final DenseIds projectIds = new DenseIds();
+        private final Map<String, Integer> taskIndexes;
+        private final int taskCount;
+        private final int[] taskEmployees;
+        private final int[] taskProjects;
+        private final int[] taskPhases;
+        private final double[] taskEstimates;
+
+        private int rowCount;
+        private double[] hours = new double[1024];
+        private int[] employees = new int[1024];
+        private int[] tasks = new int[1024];
+        private int[] epochDays = new int[1024];
+        private int minEpochDay = Integer.MAX_VALUE;
+        private int maxEpochDay = Integer.MIN_VALUE;
+
+        Builder(List<Task> taskList) {
+            taskCount = taskList.size();
+            taskIndexes = new HashMap<>(taskCount * 2);
+            taskEmployees = new int[taskCount];
+            taskProjects = new int[taskCount];
+            taskPhases = new int[taskCount];
+            taskEstimates = new double[taskCount];
+            for (int i = 0; i < taskCount; i++) {
+                Task task = taskList.get(i);
+                taskIndexes.put(task.getCode(), i);
+                taskEmployees[i] = employeeIds.numberOf(task.getAssignedEmployeeId());
+                taskProjects[i] = projectIds.numberOf(task.getProjectId());
+                taskPhases[i] = task.getTaskPhase() != null ? task.getTaskPhase().getCode() : 0;
+                taskEstimates[i] = task.getEstimationHours();
+            }
+        }
+
+        void add(TaskLog log) {
+            if (rowCount == hours.length) {
+                int capacity = rowCount * 2;
+                hours = Arrays.copyOf(hours, capacity);
+                employees = Arrays.copyOf(employees, capacity);
+                tasks = Arrays.copyOf(tasks, capacity);
+                epochDays = Arrays.copyOf(epochDays, capacity);
+            }
+            Integer taskIndex = taskIndexes.get(log.getTaskCode());
+            int epochDay = log.getFromTime() != null ? (int) log.getFromTime().toLocalDate().toEpochDay() : NO_DAY;
+            hours[rowCount] = log.getHoursSpent();
+            employees[rowCount] = employeeIds.numberOf(log.getEmployeeId());
+            tasks[rowCount] = taskIndex != null ? taskIndex : NONE;
+            epochDays[rowCount] = epochDay;
+            if (epochDay != NO_DAY) {
+                minEpochDay = Math.min(minEpochDay, epochDay);
+                maxEpochDay = Math.max(maxEpochDay, epochDay);
+            }
+            rowCount++;
+        }
+
+        TaskLogColumns build() {
+            return new TaskLogColumns(this);
+        }
+    }
+}
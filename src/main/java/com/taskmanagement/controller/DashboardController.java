@@ -1,19 +1,40 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.analytics.EffortAnalytics;
+import com.taskmanagement.analytics.EffortSummary;
+import com.taskmanagement.model.Project;
+import com.taskmanagement.repository.ProjectRepository;
 import com.taskmanagement.util.SessionManager;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Controller for the main Dashboard view.
  * Manages navigation between different modules (Admin, Tasks, Employee).
  */
 public class DashboardController {
+    static final String USERS_VIEW = "/fxml/admin/users.fxml";
+    static final String EMPLOYEES_VIEW = "/fxml/admin/employees.fxml";
+    static final String PROJECTS_VIEW = "/fxml/admin/projects.fxml";
+    static final String ALL_TASKS_VIEW = "/fxml/tasks/all_tasks.fxml";
+    static final String CREATE_TASK_VIEW = "/fxml/tasks/create_task.fxml";
+    static final String TASK_LOGS_VIEW = "/fxml/tasks/task_logs.fxml";
+    static final String CALENDAR_VIEW = "/fxml/tasks/calendar.fxml";
+    static final String MY_TASKS_VIEW = "/fxml/tasks/my_tasks.fxml";
+    static final String TIMECARDS_VIEW = "/fxml/employee/timecards.fxml";
+    static final String LEAVE_REQUEST_VIEW = "/fxml/employee/leave_request.fxml";
+    static final String MISSION_REQUEST_VIEW = "/fxml/employee/mission_request.fxml";
+    static final String APPROVALS_VIEW = "/fxml/employee/approvals.fxml";
 
     @FXML
     private BorderPane mainLayout;
@@ -32,6 +53,7 @@ public class DashboardController {
 
     /**
      * Updates the sidebar based on the current user's role.
+     * Keep {@link #reachableViews} in step with the role checks here.
      */
     private void updateSidebar() {
         SessionManager session = SessionManager.getInstance();
@@ -42,41 +64,41 @@ public class DashboardController {
         // Admin Module
         if (session.isAdmin()) {
             addSectionLabel("Admin Module");
-            addSidebarButton("Manage Users", e -> loadView("/fxml/admin/users.fxml"));
-            addSidebarButton("Manage Employees", e -> loadView("/fxml/admin/employees.fxml"));
-            addSidebarButton("Manage Projects", e -> loadView("/fxml/admin/projects.fxml"));
+            addSidebarButton("Manage Users", e -> loadView(USERS_VIEW));
+            addSidebarButton("Manage Employees", e -> loadView(EMPLOYEES_VIEW));
+            addSidebarButton("Manage Projects", e -> loadView(PROJECTS_VIEW));
             addSeparator();
         }
 
         // Tasks Module
         if (session.isAdmin() || session.isLeader()) {
             addSectionLabel("Tasks Module");
-            addSidebarButton("All Tasks", e -> loadView("/fxml/tasks/all_tasks.fxml"));
-            addSidebarButton("Create Task", e -> loadView("/fxml/tasks/create_task.fxml"));
-            addSidebarButton("Task Logs", e -> loadView("/fxml/tasks/task_logs.fxml"));
+            addSidebarButton("All Tasks", e -> loadView(ALL_TASKS_VIEW));
+            addSidebarButton("Create Task", e -> loadView(CREATE_TASK_VIEW));
+            addSidebarButton("Task Logs", e -> loadView(TASK_LOGS_VIEW));
             addSeparator();
         }
 
         // Calendar
-        addSidebarButton("Calendar", e -> loadView("/fxml/tasks/calendar.fxml"));
+        addSidebarButton("Calendar", e -> loadView(CALENDAR_VIEW));
         addSeparator();
 
         // My Tasks
         if (session.isEmployee() || session.isLeader()) {
-            addSidebarButton("My Tasks", e -> loadView("/fxml/tasks/my_tasks.fxml"));
+            addSidebarButton("My Tasks", e -> loadView(MY_TASKS_VIEW));
             addSeparator();
         }
 
         // Employee Module
         addSectionLabel("Employee Module");
-        addSidebarButton("Timecards", e -> loadView("/fxml/employee/timecards.fxml"));
-        addSidebarButton("Leave Request", e -> loadView("/fxml/employee/leave_request.fxml"));
-        addSidebarButton("Mission/Permission", e -> loadView("/fxml/employee/mission_request.fxml"));
+        addSidebarButton("Timecards", e -> loadView(TIMECARDS_VIEW));
+        addSidebarButton("Leave Request", e -> loadView(LEAVE_REQUEST_VIEW));
+        addSidebarButton("Mission/Permission", e -> loadView(MISSION_REQUEST_VIEW));
 
         // Approval
         if (session.isAdmin() || session.isLeader()) {
             addSeparator();
-            addSidebarButton("Approve Requests", e -> loadView("/fxml/employee/approvals.fxml"));
+            addSidebarButton("Approve Requests", e -> loadView(APPROVALS_VIEW));
         }
 
         // Logout
@@ -84,6 +106,29 @@ public class DashboardController {
         addSidebarButton("Logout", e -> logout());
     }
 
+    /**
+     * Returns the views the sidebar offers to the current user, in sidebar order.
+     * Must use the same role checks as {@link #updateSidebar()}.
+     */
+    static List<String> reachableViews(SessionManager session) {
+        List<String> views = new ArrayList<>();
+        if (session.isAdmin()) {
+            views.addAll(Arrays.asList(USERS_VIEW, EMPLOYEES_VIEW, PROJECTS_VIEW));
+        }
+        if (session.isAdmin() || session.isLeader()) {
+            views.addAll(Arrays.asList(ALL_TASKS_VIEW, CREATE_TASK_VIEW, TASK_LOGS_VIEW));
+        }
+        views.add(CALENDAR_VIEW);
+        if (session.isEmployee() || session.isLeader()) {
+            views.add(MY_TASKS_VIEW);
+        }
+        views.addAll(Arrays.asList(TIMECARDS_VIEW, LEAVE_REQUEST_VIEW, MISSION_REQUEST_VIEW));
+        if (session.isAdmin() || session.isLeader()) {
+            views.add(APPROVALS_VIEW);
+        }
+        return views;
+    }
+
     /**
      * Adds a section label to the sidebar.
      */
@@ -133,17 +178,57 @@ public class DashboardController {
         roleLabel.setFont(javafx.scene.text.Font.font("Arial", 14));
 
         welcome.getChildren().addAll(titleLabel, userLabel, roleLabel);
+        if (session.isAdmin() || session.isLeader()) {
+            welcome.getChildren().add(createEffortSummary());
+        }
         contentArea.getChildren().clear();
         contentArea.getChildren().add(welcome);
     }
 
     /**
-     * Loads a view from an FXML file into the content area.
+     * Creates the estimated vs. logged hours per project panel, filled in by a background task.
+     */
+    private VBox createEffortSummary() {
+        VBox summary = new VBox(5);
+        Label headerLabel = new Label("Effort by project (estimated / logged hours)");
+        headerLabel.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 14));
+        Label statusLabel = new Label("Loading...");
+        summary.getChildren().addAll(headerLabel, statusLabel);
+
+        javafx.concurrent.Task<List<EffortSummary>> report = new javafx.concurrent.Task<List<EffortSummary>>() {
+            @Override
+            protected List<EffortSummary> call() {
+                return EffortAnalytics.projectTotals();
+            }
+        };
+        report.setOnSucceeded(e -> {
+            summary.getChildren().remove(statusLabel);
+            if (report.getValue().isEmpty()) {
+                summary.getChildren().add(new Label("No effort recorded yet"));
+            }
+            for (EffortSummary project : report.getValue()) {
+                Project details = ProjectRepository.getInstance().findById(project.getKey());
+                String name = details != null ? details.getName() : project.getKey();
+                summary.getChildren().add(new Label(String.format("%s: %.1f / %.1f",
+                        name, project.getEstimatedHours(), project.getActualHours())));
+            }
+        });
+        report.setOnFailed(e -> {
+            statusLabel.setText("Effort summary unavailable");
+            report.getException().printStackTrace();
+        });
+        Thread worker = new Thread(report, "effort-report");
+        worker.setDaemon(true);
+        worker.start();
+        return summary;
+    }
+
+    /**
+     * Shows a view in the content area, reusing it if it was shown before.
      */
     private void loadView(String fxmlPath) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            VBox view = loader.load();
+            Parent view = ViewCache.getInstance().show(fxmlPath);
             contentArea.getChildren().clear();
             contentArea.getChildren().add(view);
         } catch (Exception e) {
@@ -168,6 +253,7 @@ public class DashboardController {
      */
     private void logout() {
         SessionManager.getInstance().logout();
+        ViewCache.getInstance().clear();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/login.fxml"));
             Scene scene = new Scene(loader.load(), 500, 400);
@@ -0,0 +1,112 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.model.Employee;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.EffortLedger;
+import com.taskmanagement.repository.EmployeeRepository;
+import com.taskmanagement.repository.LeaveRequestRepository;
+import com.taskmanagement.repository.MissionRequestRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TimecardRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.util.SessionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Warms up the dashboard right after login: loads the repositories and the FXML views the
+ * user's role can reach on background threads, so the first click on a module costs the
+ * same as later ones. A view that fails to load here is simply loaded on first click.
+ */
+public class DashboardPreloader {
+    private static final int THREADS = 2;
+
+    private static final ExecutorService preloader = Executors.newFixedThreadPool(THREADS, r -> {
+        Thread thread = new Thread(r, "dashboard-preload");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private DashboardPreloader() {
+    }
+
+    /**
+     * Starts preloading for the user now in the session. Returns at once.
+     */
+    public static void start() {
+        User user = SessionManager.getInstance().getCurrentUser();
+        for (Runnable warmUp : warmUps(SessionManager.getInstance())) {
+            preloader.execute(() -> run(user, warmUp));
+        }
+    }
+
+    /**
+     * Loads everything start() would, on the calling thread, e.g. for a training run on the FX thread.
+     */
+    public static void loadNow() {
+        User user = SessionManager.getInstance().getCurrentUser();
+        for (Runnable warmUp : warmUps(SessionManager.getInstance())) {
+            run(user, warmUp);
+        }
+    }
+
+    /**
+     * The data warm-ups, then the views, so their initialize() finds the repositories loaded.
+     */
+    private static List<Runnable> warmUps(SessionManager session) {
+        List<Runnable> warmUps = dataWarmUps(session);
+        for (String fxmlPath : DashboardController.reachableViews(session)) {
+            warmUps.add(() -> {
+                try {
+                    ViewCache.getInstance().load(fxmlPath);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Could not preload " + fxmlPath, e);
+                }
+            });
+        }
+        return warmUps;
+    }
+
+    /**
+     * The entity caches behind the views the role can reach.
+     */
+    private static List<Runnable> dataWarmUps(SessionManager session) {
+        List<Runnable> warmUps = new ArrayList<>();
+        if (session.isAdmin()) {
+            warmUps.add(() -> UserRepository.getInstance().findAll());
+            warmUps.add(() -> ProjectRepository.getInstance().findAll());
+        }
+        warmUps.add(() -> TaskRepository.getInstance().findAll());
+        warmUps.add(() -> EmployeeRepository.getInstance().findAll());
+        // Loaded here so the first task log added does not wait for a rebuild of the totals
+        warmUps.add(() -> EffortLedger.getInstance().load());
+        if (session.isAdmin() || session.isLeader()) {
+            warmUps.add(() -> LeaveRequestRepository.getInstance().findPending());
+            warmUps.add(() -> MissionRequestRepository.getInstance().findPending());
+        }
+        Employee employee = session.getCurrentEmployee();
+        if (employee != null) {
+            warmUps.add(() -> TimecardRepository.getInstance().findByEmployee(employee.getId()));
+        }
+        return warmUps;
+    }
+
+    /**
+     * Runs a warm-up unless the user has logged out since it was queued.
+     */
+    private static void run(User user, Runnable warmUp) {
+        if (SessionManager.getInstance().getCurrentUser() != user) {
+            return;
+        }
+        try {
+            warmUp.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
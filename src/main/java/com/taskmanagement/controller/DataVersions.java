@@ -0,0 +1,41 @@
+package com.taskmanagement.controller;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the versions (see FileManager.getVersion) of the files a view shows, so a cached
+ * view can tell whether any of them changed since it last loaded them.
+ */
+public class DataVersions {
+    private final LongSupplier[] sources;
+    private long seen;
+
+    /**
+     * Starts from the current versions; create it before the view first loads its data.
+     */
+    public DataVersions(LongSupplier... sources) {
+        this.sources = sources;
+        this.seen = current();
+    }
+
+    /**
+     * True if any of the files changed since the last call, or since this was created.
+     */
+    public boolean hasChanged() {
+        long current = current();
+        if (current == seen) {
+            return false;
+        }
+        seen = current;
+        return true;
+    }
+
+    // Versions only grow, so their sum changes whenever any of them does
+    private long current() {
+        long sum = 0;
+        for (LongSupplier source : sources) {
+            sum += source.getAsLong();
+        }
+        return sum;
+    }
+}
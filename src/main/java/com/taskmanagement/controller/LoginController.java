@@ -2,17 +2,17 @@ package com.taskmanagement.controller;
 
 import com.taskmanagement.model.Employee;
 import com.taskmanagement.model.User;
-import com.taskmanagement.util.FileManager;
+import com.taskmanagement.repository.EmployeeRepository;
+import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.util.PasswordUtil;
 import com.taskmanagement.util.SessionManager;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.stage.Stage;
 
-import java.util.List;
-
 /**
  * Controller for the Login view.
  * Handles user authentication and navigation to the main dashboard.
@@ -40,7 +40,8 @@ public class LoginController {
 
     /**
      * Handles the login button click event.
-     * Authenticates the user and navigates to the main dashboard if successful.
+     * Looks the user up by username and verifies the password on a worker thread,
+     * so the UI stays responsive while BCrypt runs.
      */
     @FXML
     private void handleLogin() {
@@ -52,37 +53,71 @@ public class LoginController {
             return;
         }
 
-        List<User> users = FileManager.loadUsers();
-        User authenticatedUser = null;
-
-        // Find and authenticate user
-        for (User user : users) {
-            if (user.getUsername().equals(username) && user.isActive()) {
-                if (PasswordUtil.checkPassword(password, user.getPassword())) {
-                    authenticatedUser = user;
-                    break;
+        Task<User> authentication = new Task<User>() {
+            @Override
+            protected User call() {
+                User user = UserRepository.getInstance().findByUsername(username);
+                if (user == null || !user.isActive() || !PasswordUtil.checkPassword(password, user.getPassword())) {
+                    return null;
                 }
-            }
-        }
-
-        if (authenticatedUser != null) {
-            // Set current user in session
-            SessionManager.getInstance().setCurrentUser(authenticatedUser);
-            
-            // Load employee data if exists
-            List<Employee> employees = FileManager.loadEmployees();
-            for (Employee emp : employees) {
-                if (emp.getUserId() != null && emp.getUserId().equals(authenticatedUser.getId())) {
-                    SessionManager.getInstance().setCurrentEmployee(emp);
-                    break;
+                if (PasswordUtil.needsRehash(user.getPassword())) {
+                    // Upgrade the stored hash to the configured cost while the plain password is at hand
+                    user = UserRepository.getInstance().replacePasswordHash(
+                            user.getId(), user.getPassword(), PasswordUtil.hashPassword(password));
+                    if (user == null) {
+                        return null;
+                    }
                 }
+                // Warm the employee index here so the lookup on the FX thread is a map read
+                EmployeeRepository.getInstance().findByUserId(user.getId());
+                return user;
             }
+        };
+        authentication.setOnSucceeded(e -> onAuthenticated(authentication.getValue()));
+        authentication.setOnFailed(e -> {
+            setBusy(false);
+            showError("Login failed: " + authentication.getException().getMessage());
+            authentication.getException().printStackTrace();
+        });
+
+        setBusy(true);
+        showInfo("Signing in...");
+        Thread worker = new Thread(authentication, "login-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
 
-            showSuccess("Login successful!");
-            navigateToDashboard();
-        } else {
+    /**
+     * Completes the login on the FX thread once the password has been verified.
+     */
+    private void onAuthenticated(User authenticatedUser) {
+        setBusy(false);
+        if (authenticatedUser == null) {
             showError("Invalid username or password");
+            return;
         }
+
+        // Set current user in session
+        SessionManager.getInstance().setCurrentUser(authenticatedUser);
+
+        // Load employee data if exists
+        Employee employee = EmployeeRepository.getInstance().findByUserId(authenticatedUser.getId());
+        if (employee != null) {
+            SessionManager.getInstance().setCurrentEmployee(employee);
+        }
+
+        showSuccess("Login successful!");
+        DashboardPreloader.start();
+        navigateToDashboard();
+    }
+
+    /**
+     * Disables the form while a login attempt is in progress.
+     */
+    private void setBusy(boolean busy) {
+        loginButton.setDisable(busy);
+        usernameField.setDisable(busy);
+        passwordField.setDisable(busy);
     }
 
     /**
@@ -111,6 +146,14 @@ public class LoginController {
         messageLabel.setText(message);
     }
 
+    /**
+     * Displays a neutral status message to the user.
+     */
+    private void showInfo(String message) {
+        messageLabel.setStyle("-fx-text-fill: black;");
+        messageLabel.setText(message);
+    }
+
     /**
      * Displays a success message to the user.
      */
@@ -0,0 +1,13 @@
+package com.taskmanagement.controller;
+
+/**
+ * A view controller that is kept alive by the {@link ViewCache} and shown again later.
+ */
+public interface RefreshableView {
+
+    /**
+     * Called on the FX thread each time the cached view is shown again.
+     * Reloads only what changed since the view was last shown.
+     */
+    void refresh();
+}
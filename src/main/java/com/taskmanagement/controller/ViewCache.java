@@ -0,0 +1,109 @@
+package com.taskmanagement.controller;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Views loaded from FXML, kept alive with their controllers and keyed by FXML path.
+ * The first show loads the view; later shows reuse it and call its controller's
+ * {@link RefreshableView#refresh()} so it only reloads the data that changed.
+ * The cache belongs to the logged-in user and is cleared on logout.
+ */
+public class ViewCache {
+    private static ViewCache instance;
+
+    private final Map<String, CachedView> views = new ConcurrentHashMap<>();
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+    // Bumped by clear(), so a view still loading for the previous user is not cached
+    private int epoch;
+
+    private ViewCache() {
+    }
+
+    public static synchronized ViewCache getInstance() {
+        if (instance == null) {
+            instance = new ViewCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the view of an FXML file, loading it on first use and refreshing it after that.
+     * Must be called on the FX thread.
+     */
+    public Parent show(String fxmlPath) throws IOException {
+        CachedView cached = views.get(fxmlPath);
+        if (cached == null) {
+            cached = load(fxmlPath);
+        } else if (cached.controller instanceof RefreshableView) {
+            ((RefreshableView) cached.controller).refresh();
+        }
+        return cached.view;
+    }
+
+    /**
+     * Loads a view into the cache unless it is already there. May be called off the FX thread,
+     * as long as the view is not shown yet; a view asked for while it is loading is loaded once.
+     */
+    public CachedView load(String fxmlPath) throws IOException {
+        CachedView cached = views.get(fxmlPath);
+        if (cached != null) {
+            return cached;
+        }
+        int loadEpoch;
+        synchronized (this) {
+            loadEpoch = epoch;
+        }
+        synchronized (loadLocks.computeIfAbsent(fxmlPath, p -> new Object())) {
+            cached = views.get(fxmlPath);
+            if (cached == null) {
+                FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+                Parent view = loader.load();
+                cached = new CachedView(view, loader.getController());
+                synchronized (this) {
+                    if (loadEpoch == epoch) {
+                        views.put(fxmlPath, cached);
+                    }
+                }
+            }
+            return cached;
+        }
+    }
+
+    public boolean contains(String fxmlPath) {
+        return views.containsKey(fxmlPath);
+    }
+
+    /**
+     * Drops every cached view, e.g. when the user logs out.
+     */
+    public synchronized void clear() {
+        epoch++;
+        views.clear();
+    }
+
+    /**
+     * A loaded view and its controller.
+     */
+    public static class CachedView {
+        private final Parent view;
+        private final Object controller;
+
+        CachedView(Parent view, Object controller) {
+            this.view = view;
+            this.controller = controller;
+        }
+
+        public Parent getView() {
+            return view;
+        }
+
+        public Object getController() {
+            return controller;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.taskmanagement.controller.admin;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.Employee;
 import com.taskmanagement.model.User;
+import com.taskmanagement.repository.EmployeeRepository;
+import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.util.FileManager;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,7 +19,7 @@ import java.util.UUID;
 /**
  * Controller for managing employees (Add, Update, Delete).
  */
-public class EmployeeManagementController {
+public class EmployeeManagementController implements RefreshableView {
 
     @FXML
     private TableView<Employee> employeesTable;
@@ -69,6 +73,8 @@ public class EmployeeManagementController {
     private Label messageLabel;
 
     private ObservableList<Employee> employeesList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.EMPLOYEES), () -> FileManager.getVersion(FileManager.USERS));
     private List<User> usersList;
 
     @FXML
@@ -79,6 +85,14 @@ public class EmployeeManagementController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadEmployees();
+            setupComboBoxes();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -92,10 +106,10 @@ public class EmployeeManagementController {
     }
 
     /**
-     * Loads employees from the file system.
+     * Loads employees from the employee repository.
      */
     private void loadEmployees() {
-        List<Employee> employees = FileManager.loadEmployees();
+        List<Employee> employees = EmployeeRepository.getInstance().findAll();
         employeesList = FXCollections.observableArrayList(employees);
         employeesTable.setItems(employeesList);
     }
@@ -106,7 +120,7 @@ public class EmployeeManagementController {
     private void setupComboBoxes() {
         typeComboBox.setItems(FXCollections.observableArrayList("Developer", "Designer", "QA", "Manager", "Analyst"));
         
-        usersList = FileManager.loadUsers();
+        usersList = UserRepository.getInstance().findAll();
         ObservableList<String> usernames = FXCollections.observableArrayList();
         usernames.add("(No User)");
         for (User user : usersList) {
@@ -139,13 +153,9 @@ public class EmployeeManagementController {
             activeCheckBox.setSelected(selectedEmployee.isActive());
 
             // Set user combo box
-            if (selectedEmployee.getUserId() != null) {
-                for (User user : usersList) {
-                    if (user.getId().equals(selectedEmployee.getUserId())) {
-                        userComboBox.setValue(user.getUsername());
-                        break;
-                    }
-                }
+            User linkedUser = UserRepository.getInstance().findById(selectedEmployee.getUserId());
+            if (linkedUser != null) {
+                userComboBox.setValue(linkedUser.getUsername());
             } else {
                 userComboBox.setValue("(No User)");
             }
@@ -172,11 +182,9 @@ public class EmployeeManagementController {
         String userId = null;
         String selectedUsername = userComboBox.getValue();
         if (!selectedUsername.equals("(No User)")) {
-            for (User user : usersList) {
-                if (user.getUsername().equals(selectedUsername)) {
-                    userId = user.getId();
-                    break;
-                }
+            User user = UserRepository.getInstance().findByUsername(selectedUsername);
+            if (user != null) {
+                userId = user.getId();
             }
         }
 
@@ -192,7 +200,7 @@ public class EmployeeManagementController {
         );
 
         employeesList.add(newEmployee);
-        FileManager.saveEmployees(new java.util.ArrayList<>(employeesList));
+        EmployeeRepository.getInstance().save(newEmployee);
         clearForm();
         showSuccess("Employee added successfully!");
     }
@@ -223,17 +231,15 @@ public class EmployeeManagementController {
         // Set user ID
         String selectedUsername = userComboBox.getValue();
         if (!selectedUsername.equals("(No User)")) {
-            for (User user : usersList) {
-                if (user.getUsername().equals(selectedUsername)) {
-                    selectedEmployee.setUserId(user.getId());
-                    break;
-                }
+            User user = UserRepository.getInstance().findByUsername(selectedUsername);
+            if (user != null) {
+                selectedEmployee.setUserId(user.getId());
             }
         } else {
             selectedEmployee.setUserId(null);
         }
 
-        FileManager.saveEmployees(new java.util.ArrayList<>(employeesList));
+        EmployeeRepository.getInstance().save(selectedEmployee);
         employeesTable.refresh();
         showSuccess("Employee updated successfully!");
     }
@@ -252,7 +258,7 @@ public class EmployeeManagementController {
         Optional<ButtonType> result = showConfirmation("Are you sure you want to delete this employee?");
         if (result.isPresent() && result.get() == ButtonType.OK) {
             employeesList.remove(selectedEmployee);
-            FileManager.saveEmployees(new java.util.ArrayList<>(employeesList));
+            EmployeeRepository.getInstance().delete(selectedEmployee.getId());
             clearForm();
             showSuccess("Employee deleted successfully!");
         }
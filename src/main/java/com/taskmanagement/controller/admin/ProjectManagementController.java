@@ -1,6 +1,9 @@
 package com.taskmanagement.controller.admin;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.Project;
+import com.taskmanagement.repository.ProjectRepository;
 import com.taskmanagement.util.FileManager;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,7 +17,7 @@ import java.util.UUID;
 /**
  * Controller for managing projects (Add, Update, Delete).
  */
-public class ProjectManagementController {
+public class ProjectManagementController implements RefreshableView {
 
     @FXML
     private TableView<Project> projectsTable;
@@ -50,6 +53,8 @@ public class ProjectManagementController {
     private Label messageLabel;
 
     private ObservableList<Project> projectsList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.PROJECTS));
 
     @FXML
     public void initialize() {
@@ -59,6 +64,13 @@ public class ProjectManagementController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadProjects();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -71,10 +83,10 @@ public class ProjectManagementController {
     }
 
     /**
-     * Loads projects from the file system.
+     * Loads projects from the project repository.
      */
     private void loadProjects() {
-        List<Project> projects = FileManager.loadProjects();
+        List<Project> projects = ProjectRepository.getInstance().findAll();
         projectsList = FXCollections.observableArrayList(projects);
         projectsTable.setItems(projectsList);
     }
@@ -132,7 +144,7 @@ public class ProjectManagementController {
         );
 
         projectsList.add(newProject);
-        FileManager.saveProjects(new java.util.ArrayList<>(projectsList));
+        ProjectRepository.getInstance().save(newProject);
         clearForm();
         showSuccess("Project added successfully!");
     }
@@ -156,7 +168,7 @@ public class ProjectManagementController {
         selectedProject.setDescription(descriptionArea.getText().trim());
         selectedProject.setStatus(statusComboBox.getValue());
 
-        FileManager.saveProjects(new java.util.ArrayList<>(projectsList));
+        ProjectRepository.getInstance().save(selectedProject);
         projectsTable.refresh();
         showSuccess("Project updated successfully!");
     }
@@ -175,7 +187,7 @@ public class ProjectManagementController {
         Optional<ButtonType> result = showConfirmation("Are you sure you want to delete this project?");
         if (result.isPresent() && result.get() == ButtonType.OK) {
             projectsList.remove(selectedProject);
-            FileManager.saveProjects(new java.util.ArrayList<>(projectsList));
+            ProjectRepository.getInstance().delete(selectedProject.getId());
             clearForm();
             showSuccess("Project deleted successfully!");
         }
@@ -1,6 +1,9 @@
 package com.taskmanagement.controller.admin;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.User;
+import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.PasswordUtil;
 import javafx.collections.FXCollections;
@@ -16,7 +19,7 @@ import java.util.UUID;
 /**
  * Controller for managing users (Add, Update, Delete).
  */
-public class UserManagementController {
+public class UserManagementController implements RefreshableView {
 
     @FXML
     private TableView<User> usersTable;
@@ -61,6 +64,8 @@ public class UserManagementController {
     private Label messageLabel;
 
     private ObservableList<User> usersList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.USERS));
 
     @FXML
     public void initialize() {
@@ -70,6 +75,13 @@ public class UserManagementController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadUsers();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -83,10 +95,10 @@ public class UserManagementController {
     }
 
     /**
-     * Loads users from the file system.
+     * Loads users from the user repository.
      */
     private void loadUsers() {
-        List<User> users = FileManager.loadUsers();
+        List<User> users = UserRepository.getInstance().findAll();
         usersList = FXCollections.observableArrayList(users);
         usersTable.setItems(usersList);
     }
@@ -136,11 +148,9 @@ public class UserManagementController {
         String email = emailField.getText().trim();
 
         // Check if username already exists
-        for (User user : usersList) {
-            if (user.getUsername().equals(username)) {
-                showError("Username already exists!");
-                return;
-            }
+        if (UserRepository.getInstance().findByUsername(username) != null) {
+            showError("Username already exists!");
+            return;
         }
 
         User newUser = new User(
@@ -152,7 +162,7 @@ public class UserManagementController {
         );
 
         usersList.add(newUser);
-        FileManager.saveUsers(new java.util.ArrayList<>(usersList));
+        UserRepository.getInstance().save(newUser);
         clearForm();
         showSuccess("User added successfully!");
     }
@@ -181,7 +191,7 @@ public class UserManagementController {
         selectedUser.setEmail(emailField.getText().trim());
         selectedUser.setActive(activeCheckBox.isSelected());
 
-        FileManager.saveUsers(new java.util.ArrayList<>(usersList));
+        UserRepository.getInstance().save(selectedUser);
         usersTable.refresh();
         showSuccess("User updated successfully!");
     }
@@ -200,7 +210,7 @@ public class UserManagementController {
         Optional<ButtonType> result = showConfirmation("Are you sure you want to delete this user?");
         if (result.isPresent() && result.get() == ButtonType.OK) {
             usersList.remove(selectedUser);
-            FileManager.saveUsers(new java.util.ArrayList<>(usersList));
+            UserRepository.getInstance().delete(selectedUser.getId());
             clearForm();
             showSuccess("User deleted successfully!");
         }
@@ -1,7 +1,12 @@
 package com.taskmanagement.controller.employee;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.LeaveRequest;
 import com.taskmanagement.model.MissionRequest;
+import com.taskmanagement.repository.ConflictIndex;
+import com.taskmanagement.repository.LeaveRequestRepository;
+import com.taskmanagement.repository.MissionRequestRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.SessionManager;
 import javafx.collections.FXCollections;
@@ -10,12 +15,15 @@ import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controller for approving/rejecting leave and mission requests.
+ * Several requests can be selected and decided at once.
  */
-public class ApprovalController {
+public class ApprovalController implements RefreshableView {
 
     @FXML
     private TabPane requestTabPane;
@@ -84,6 +92,8 @@ public class ApprovalController {
 
     private ObservableList<LeaveRequest> leaveRequestsList;
     private ObservableList<MissionRequest> missionRequestsList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.LEAVE_REQUESTS), () -> FileManager.getVersion(FileManager.MISSION_REQUESTS));
 
     @FXML
     public void initialize() {
@@ -93,10 +103,18 @@ public class ApprovalController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadRequests();
+        }
+    }
+
     /**
-     * Sets up the leave requests table columns.
+     * Sets up the leave requests table columns and multi-selection.
      */
     private void setupLeaveRequestsTable() {
+        leaveRequestsTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         leaveEmployeeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
             cellData.getValue().getEmployeeId()
         ));
@@ -115,9 +133,10 @@ public class ApprovalController {
     }
 
     /**
-     * Sets up the mission requests table columns.
+     * Sets up the mission requests table columns and multi-selection.
      */
     private void setupMissionRequestsTable() {
+        missionRequestsTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         missionEmployeeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
             cellData.getValue().getEmployeeId()
         ));
@@ -133,28 +152,16 @@ public class ApprovalController {
     }
 
     /**
-     * Loads pending requests from the file system.
+     * Loads the pending requests, which are kept apart from decided ones.
      */
     private void loadRequests() {
         // Load leave requests
-        List<LeaveRequest> allLeaveRequests = FileManager.loadLeaveRequests();
-        List<LeaveRequest> pendingLeaveRequests = new java.util.ArrayList<>();
-        for (LeaveRequest lr : allLeaveRequests) {
-            if ("PENDING".equals(lr.getStatus())) {
-                pendingLeaveRequests.add(lr);
-            }
-        }
+        List<LeaveRequest> pendingLeaveRequests = LeaveRequestRepository.getInstance().findPending();
         leaveRequestsList = FXCollections.observableArrayList(pendingLeaveRequests);
         leaveRequestsTable.setItems(leaveRequestsList);
 
         // Load mission requests
-        List<MissionRequest> allMissionRequests = FileManager.loadMissionRequests();
-        List<MissionRequest> pendingMissionRequests = new java.util.ArrayList<>();
-        for (MissionRequest mr : allMissionRequests) {
-            if ("PENDING".equals(mr.getStatus())) {
-                pendingMissionRequests.add(mr);
-            }
-        }
+        List<MissionRequest> pendingMissionRequests = MissionRequestRepository.getInstance().findPending();
         missionRequestsList = FXCollections.observableArrayList(pendingMissionRequests);
         missionRequestsTable.setItems(missionRequestsList);
     }
@@ -170,129 +177,165 @@ public class ApprovalController {
     }
 
     /**
-     * Approves a leave request.
+     * Approves the selected leave requests.
      */
     @FXML
     private void approveLeaveRequest() {
-        LeaveRequest selected = leaveRequestsTable.getSelectionModel().getSelectedItem();
-        if (selected == null) {
-            showError("Please select a leave request!");
-            return;
-        }
-
-        selected.setStatus("APPROVED");
-        selected.setReviewedBy(SessionManager.getInstance().getCurrentUser().getUsername());
+        decideLeaveRequests("APPROVED", false);
+    }
 
-        List<LeaveRequest> requests = FileManager.loadLeaveRequests();
-        for (int i = 0; i < requests.size(); i++) {
-            if (requests.get(i).getId().equals(selected.getId())) {
-                requests.set(i, selected);
-                break;
-            }
-        }
-        FileManager.saveLeaveRequests(requests);
+    /**
+     * Rejects the selected leave requests.
+     */
+    @FXML
+    private void rejectLeaveRequest() {
+        decideLeaveRequests("REJECTED", true);
+    }
 
-        leaveRequestsList.remove(selected);
-        showSuccess("Leave request approved!");
-        leaveNotesArea.clear();
+    /**
+     * Approves the selected mission requests.
+     */
+    @FXML
+    private void approveMissionRequest() {
+        decideMissionRequests("APPROVED", false);
     }
 
     /**
-     * Rejects a leave request.
+     * Rejects the selected mission requests.
      */
     @FXML
-    private void rejectLeaveRequest() {
-        LeaveRequest selected = leaveRequestsTable.getSelectionModel().getSelectedItem();
-        if (selected == null) {
+    private void rejectMissionRequest() {
+        decideMissionRequests("REJECTED", true);
+    }
+
+    /**
+     * Applies a decision, the reviewer and the notes to every selected leave request and saves them as one batch.
+     */
+    private void decideLeaveRequests(String status, boolean notesRequired) {
+        List<LeaveRequest> selected = new ArrayList<>(leaveRequestsTable.getSelectionModel().getSelectedItems());
+        if (selected.isEmpty()) {
             showError("Please select a leave request!");
             return;
         }
 
         String notes = leaveNotesArea.getText().trim();
-        if (notes.isEmpty()) {
+        if (notesRequired && notes.isEmpty()) {
             showError("Please provide rejection notes!");
             return;
         }
 
-        selected.setStatus("REJECTED");
-        selected.setReviewedBy(SessionManager.getInstance().getCurrentUser().getUsername());
-        selected.setReviewNotes(notes);
+        if ("APPROVED".equals(status)) {
+            List<String> conflicts = new ArrayList<>();
+            for (int i = 0; i < selected.size(); i++) {
+                LeaveRequest request = selected.get(i);
+                String description = request.getEmployeeId() + " " + request.getStartDate() + " to " + request.getEndDate();
+                for (ConflictIndex.Booking conflict : ConflictIndex.getInstance().findConflicts(request, true)) {
+                    conflicts.add(description + " overlaps " + conflict);
+                }
+                // Requests approved together must not overlap each other either; each pair is listed once
+                for (LeaveRequest other : selected.subList(i + 1, selected.size())) {
+                    if (ConflictIndex.overlap(request, other)) {
+                        conflicts.add(description + " overlaps selected " + ConflictIndex.bookingOf(other));
+                    }
+                }
+            }
+            if (!confirmConflicts(conflicts)) {
+                return;
+            }
+        }
 
-        List<LeaveRequest> requests = FileManager.loadLeaveRequests();
-        for (int i = 0; i < requests.size(); i++) {
-            if (requests.get(i).getId().equals(selected.getId())) {
-                requests.set(i, selected);
-                break;
+        String reviewer = SessionManager.getInstance().getCurrentUser().getUsername();
+        for (LeaveRequest request : selected) {
+            request.setStatus(status);
+            request.setReviewedBy(reviewer);
+            if (!notes.isEmpty()) {
+                request.setReviewNotes(notes);
             }
         }
-        FileManager.saveLeaveRequests(requests);
+        LeaveRequestRepository.getInstance().saveAll(selected);
 
-        leaveRequestsList.remove(selected);
-        showSuccess("Leave request rejected!");
+        leaveRequestsTable.getSelectionModel().clearSelection();
+        leaveRequestsList.removeAll(selected);
+        showSuccess(describeDecision(selected.size(), "leave", status));
         leaveNotesArea.clear();
     }
 
     /**
-     * Approves a mission request.
+     * Applies a decision, the reviewer and the notes to every selected mission request and saves them as one batch.
      */
-    @FXML
-    private void approveMissionRequest() {
-        MissionRequest selected = missionRequestsTable.getSelectionModel().getSelectedItem();
-        if (selected == null) {
+    private void decideMissionRequests(String status, boolean notesRequired) {
+        List<MissionRequest> selected = new ArrayList<>(missionRequestsTable.getSelectionModel().getSelectedItems());
+        if (selected.isEmpty()) {
             showError("Please select a mission request!");
             return;
         }
 
-        selected.setStatus("APPROVED");
-        selected.setReviewedBy(SessionManager.getInstance().getCurrentUser().getUsername());
+        String notes = missionNotesArea.getText().trim();
+        if (notesRequired && notes.isEmpty()) {
+            showError("Please provide rejection notes!");
+            return;
+        }
 
-        List<MissionRequest> requests = FileManager.loadMissionRequests();
-        for (int i = 0; i < requests.size(); i++) {
-            if (requests.get(i).getId().equals(selected.getId())) {
-                requests.set(i, selected);
-                break;
+        if ("APPROVED".equals(status)) {
+            List<String> conflicts = new ArrayList<>();
+            for (int i = 0; i < selected.size(); i++) {
+                MissionRequest request = selected.get(i);
+                String description = request.getEmployeeId() + " " + request.getStartTime();
+                for (ConflictIndex.Booking conflict : ConflictIndex.getInstance().findConflicts(request, true)) {
+                    conflicts.add(description + " overlaps " + conflict);
+                }
+                for (MissionRequest other : selected.subList(i + 1, selected.size())) {
+                    if (ConflictIndex.overlap(request, other)) {
+                        conflicts.add(description + " overlaps selected " + ConflictIndex.bookingOf(other));
+                    }
+                }
+            }
+            if (!confirmConflicts(conflicts)) {
+                return;
             }
         }
-        FileManager.saveMissionRequests(requests);
 
-        missionRequestsList.remove(selected);
-        showSuccess("Mission request approved!");
+        String reviewer = SessionManager.getInstance().getCurrentUser().getUsername();
+        for (MissionRequest request : selected) {
+            request.setStatus(status);
+            request.setReviewedBy(reviewer);
+            if (!notes.isEmpty()) {
+                request.setReviewNotes(notes);
+            }
+        }
+        MissionRequestRepository.getInstance().saveAll(selected);
+
+        missionRequestsTable.getSelectionModel().clearSelection();
+        missionRequestsList.removeAll(selected);
+        showSuccess(describeDecision(selected.size(), "mission", status));
         missionNotesArea.clear();
     }
 
     /**
-     * Rejects a mission request.
+     * Asks whether to approve requests that overlap approved leave, missions or timecards, or each other.
+     * Returns true when there are no conflicts or the reviewer approves anyway.
      */
-    @FXML
-    private void rejectMissionRequest() {
-        MissionRequest selected = missionRequestsTable.getSelectionModel().getSelectedItem();
-        if (selected == null) {
-            showError("Please select a mission request!");
-            return;
-        }
-
-        String notes = missionNotesArea.getText().trim();
-        if (notes.isEmpty()) {
-            showError("Please provide rejection notes!");
-            return;
+    private boolean confirmConflicts(List<String> conflicts) {
+        if (conflicts.isEmpty()) {
+            return true;
         }
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("Overlapping Requests");
+        alert.setHeaderText(null);
+        alert.setContentText(String.join("\n", conflicts) + "\n\nApprove anyway?");
+        Optional<ButtonType> result = alert.showAndWait();
+        return result.isPresent() && result.get() == ButtonType.OK;
+    }
 
-        selected.setStatus("REJECTED");
-        selected.setReviewedBy(SessionManager.getInstance().getCurrentUser().getUsername());
-        selected.setReviewNotes(notes);
-
-        List<MissionRequest> requests = FileManager.loadMissionRequests();
-        for (int i = 0; i < requests.size(); i++) {
-            if (requests.get(i).getId().equals(selected.getId())) {
-                requests.set(i, selected);
-                break;
-            }
+    /**
+     * Builds the confirmation message, e.g. "Leave request approved!" or "3 mission requests rejected!".
+     */
+    private static String describeDecision(int count, String kind, String status) {
+        String outcome = "APPROVED".equals(status) ? "approved" : "rejected";
+        if (count == 1) {
+            return Character.toUpperCase(kind.charAt(0)) + kind.substring(1) + " request " + outcome + "!";
         }
-        FileManager.saveMissionRequests(requests);
-
-        missionRequestsList.remove(selected);
-        showSuccess("Mission request rejected!");
-        missionNotesArea.clear();
+        return count + " " + kind + " requests " + outcome + "!";
     }
 
     /**
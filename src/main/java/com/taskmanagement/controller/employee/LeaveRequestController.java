@@ -1,7 +1,11 @@
 package com.taskmanagement.controller.employee;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.LeaveRequest;
 import com.taskmanagement.model.Employee;
+import com.taskmanagement.repository.ConflictIndex;
+import com.taskmanagement.repository.LeaveRequestRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.SessionManager;
 import javafx.collections.FXCollections;
@@ -16,7 +20,7 @@ import java.util.UUID;
 /**
  * Controller for managing leave requests.
  */
-public class LeaveRequestController {
+public class LeaveRequestController implements RefreshableView {
 
     @FXML
     private TableView<LeaveRequest> leaveRequestsTable;
@@ -52,6 +56,8 @@ public class LeaveRequestController {
     private Label messageLabel;
 
     private ObservableList<LeaveRequest> leaveRequestsList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.LEAVE_REQUESTS));
 
     @FXML
     public void initialize() {
@@ -61,6 +67,13 @@ public class LeaveRequestController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadLeaveRequests();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -84,15 +97,9 @@ public class LeaveRequestController {
      */
     private void loadLeaveRequests() {
         Employee currentEmployee = SessionManager.getInstance().getCurrentEmployee();
-        List<LeaveRequest> allRequests = FileManager.loadLeaveRequests();
-        
         List<LeaveRequest> employeeRequests = new java.util.ArrayList<>();
         if (currentEmployee != null) {
-            for (LeaveRequest lr : allRequests) {
-                if (lr.getEmployeeId().equals(currentEmployee.getId())) {
-                    employeeRequests.add(lr);
-                }
-            }
+            employeeRequests = LeaveRequestRepository.getInstance().findByEmployee(currentEmployee.getId());
         }
         
         leaveRequestsList = FXCollections.observableArrayList(employeeRequests);
@@ -145,9 +152,13 @@ public class LeaveRequestController {
         );
         newRequest.setStatus("PENDING");
 
-        List<LeaveRequest> requests = FileManager.loadLeaveRequests();
-        requests.add(newRequest);
-        FileManager.saveLeaveRequests(requests);
+        List<ConflictIndex.Booking> conflicts = ConflictIndex.getInstance().findConflicts(newRequest, false);
+        if (!conflicts.isEmpty()) {
+            showError("These dates overlap " + conflicts.get(0) + "!");
+            return;
+        }
+
+        LeaveRequestRepository.getInstance().save(newRequest);
 
         leaveRequestsList.add(newRequest);
         showSuccess("Leave request submitted successfully!");
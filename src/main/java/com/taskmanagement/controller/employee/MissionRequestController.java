@@ -1,7 +1,11 @@
 package com.taskmanagement.controller.employee;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.MissionRequest;
 import com.taskmanagement.model.Employee;
+import com.taskmanagement.repository.ConflictIndex;
+import com.taskmanagement.repository.MissionRequestRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.SessionManager;
 import javafx.collections.FXCollections;
@@ -17,7 +21,7 @@ import java.util.UUID;
 /**
  * Controller for managing mission and permission requests.
  */
-public class MissionRequestController {
+public class MissionRequestController implements RefreshableView {
 
     @FXML
     private TableView<MissionRequest> requestsTable;
@@ -65,6 +69,8 @@ public class MissionRequestController {
     private Label messageLabel;
 
     private ObservableList<MissionRequest> requestsList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.MISSION_REQUESTS));
 
     @FXML
     public void initialize() {
@@ -75,6 +81,13 @@ public class MissionRequestController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadRequests();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -98,15 +111,9 @@ public class MissionRequestController {
      */
     private void loadRequests() {
         Employee currentEmployee = SessionManager.getInstance().getCurrentEmployee();
-        List<MissionRequest> allRequests = FileManager.loadMissionRequests();
-        
         List<MissionRequest> employeeRequests = new java.util.ArrayList<>();
         if (currentEmployee != null) {
-            for (MissionRequest mr : allRequests) {
-                if (mr.getEmployeeId().equals(currentEmployee.getId())) {
-                    employeeRequests.add(mr);
-                }
-            }
+            employeeRequests = MissionRequestRepository.getInstance().findByEmployee(currentEmployee.getId());
         }
         
         requestsList = FXCollections.observableArrayList(employeeRequests);
@@ -181,9 +188,13 @@ public class MissionRequestController {
             purpose
         );
 
-        List<MissionRequest> requests = FileManager.loadMissionRequests();
-        requests.add(newRequest);
-        FileManager.saveMissionRequests(requests);
+        List<ConflictIndex.Booking> conflicts = ConflictIndex.getInstance().findConflicts(newRequest, false);
+        if (!conflicts.isEmpty()) {
+            showError("This time overlaps " + conflicts.get(0) + "!");
+            return;
+        }
+
+        MissionRequestRepository.getInstance().save(newRequest);
 
         requestsList.add(newRequest);
         showSuccess("Request submitted successfully!");
@@ -1,7 +1,10 @@
 package com.taskmanagement.controller.employee;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.Timecard;
 import com.taskmanagement.model.Employee;
+import com.taskmanagement.repository.TimecardRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.SessionManager;
 import javafx.collections.FXCollections;
@@ -17,7 +20,7 @@ import java.util.UUID;
 /**
  * Controller for managing timecards (attendance tracking).
  */
-public class TimecardController {
+public class TimecardController implements RefreshableView {
 
     @FXML
     private TableView<Timecard> timecardsTable;
@@ -62,6 +65,8 @@ public class TimecardController {
     private Label messageLabel;
 
     private ObservableList<Timecard> timecardsList;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.TIMECARDS));
 
     @FXML
     public void initialize() {
@@ -72,6 +77,13 @@ public class TimecardController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadTimecards();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -91,19 +103,13 @@ public class TimecardController {
     }
 
     /**
-     * Loads timecards from the file system.
+     * Loads the current employee's timecards, oldest first.
      */
     private void loadTimecards() {
         Employee currentEmployee = SessionManager.getInstance().getCurrentEmployee();
-        List<Timecard> allTimecards = FileManager.loadTimecards();
-        
         List<Timecard> employeeTimecards = new java.util.ArrayList<>();
         if (currentEmployee != null) {
-            for (Timecard tc : allTimecards) {
-                if (tc.getEmployeeId().equals(currentEmployee.getId())) {
-                    employeeTimecards.add(tc);
-                }
-            }
+            employeeTimecards = TimecardRepository.getInstance().findByEmployee(currentEmployee.getId());
         }
         
         timecardsList = FXCollections.observableArrayList(employeeTimecards);
@@ -176,11 +182,10 @@ public class TimecardController {
             notes
         );
 
-        List<Timecard> timecards = FileManager.loadTimecards();
-        timecards.add(newTimecard);
-        FileManager.saveTimecards(timecards);
+        TimecardRepository repository = TimecardRepository.getInstance();
+        repository.save(newTimecard);
 
-        timecardsList.add(newTimecard);
+        timecardsList.setAll(repository.findByEmployee(currentEmployee.getId()));
         showSuccess("Timecard added successfully!");
         clearForm();
     }
@@ -1,10 +1,15 @@
 package com.taskmanagement.controller.tasks;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.Employee;
+import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.IntervalIndex;
 import com.taskmanagement.util.SessionManager;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
@@ -14,11 +19,12 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Controller for displaying tasks on a calendar view.
  */
-public class CalendarController {
+public class CalendarController implements RefreshableView {
 
     @FXML
     private VBox calendarContainer;
@@ -38,17 +44,50 @@ public class CalendarController {
     @FXML
     private Label messageLabel;
 
+    private static final int CALENDAR_SLOTS = 42;
+    private static final int MAX_VISIBLE_TASKS = 3;
+
     private YearMonth currentMonth;
-    private List<Task> allTasks;
+    private IntervalIndex<Task> taskIndex;
+    private DayCell[] dayCells;
+    private final DataVersions dataVersions = new DataVersions(() -> FileManager.getVersion(FileManager.TASKS));
 
     @FXML
     public void initialize() {
         currentMonth = YearMonth.now();
-        allTasks = FileManager.loadTasks();
+        buildTaskIndex();
         setupButtonActions();
+        setupCalendarGrid();
         displayCalendar();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            buildTaskIndex();
+            displayCalendar();
+        }
+    }
+
+    /**
+     * Indexes the visible tasks by the days they appear on, once per load.
+     * A task is shown from its start day up to the day before its end day, and always on its start day.
+     */
+    private void buildTaskIndex() {
+        Employee currentEmployee = SessionManager.getInstance().getCurrentEmployee();
+        List<Task> visibleTasks = TaskRepository.getInstance().findAll().stream()
+                .filter(task -> task.getStartDate() != null)
+                // Filter by employee if not admin
+                .filter(task -> currentEmployee == null
+                        || currentEmployee.getId().equals(task.getAssignedEmployeeId()))
+                .collect(Collectors.toList());
+        taskIndex = new IntervalIndex<>(visibleTasks,
+                task -> task.getStartDate().toLocalDate().toEpochDay(),
+                task -> task.getEndDate() != null
+                        ? task.getEndDate().toLocalDate().toEpochDay() - 1
+                        : task.getStartDate().toLocalDate().toEpochDay());
+    }
+
     /**
      * Sets up button actions.
      */
@@ -58,13 +97,11 @@ public class CalendarController {
     }
 
     /**
-     * Displays the calendar for the current month.
+     * Creates the day headers and the pooled day cells once; month changes only update them.
      */
-    private void displayCalendar() {
-        monthYearLabel.setText(currentMonth.getMonth() + " " + currentMonth.getYear());
-        
+    private void setupCalendarGrid() {
         calendarGrid.getChildren().clear();
-        
+
         // Add day headers
         String[] dayHeaders = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
         for (int i = 0; i < 7; i++) {
@@ -73,78 +110,56 @@ public class CalendarController {
             calendarGrid.add(header, i, 0);
         }
 
+        // Six weeks cover every month layout
+        dayCells = new DayCell[CALENDAR_SLOTS];
+        for (int slot = 0; slot < CALENDAR_SLOTS; slot++) {
+            dayCells[slot] = new DayCell();
+            calendarGrid.add(dayCells[slot].cell, slot % 7, slot / 7 + 1);
+        }
+    }
+
+    /**
+     * Displays the calendar for the current month.
+     */
+    private void displayCalendar() {
+        monthYearLabel.setText(currentMonth.getMonth() + " " + currentMonth.getYear());
+
         // Get first day of month and number of days
         LocalDate firstDay = currentMonth.atDay(1);
         int firstDayOfWeek = firstDay.getDayOfWeek().getValue() % 7;
         int daysInMonth = currentMonth.lengthOfMonth();
-
-        // Add day cells
-        int row = 1;
-        int col = firstDayOfWeek;
-
-        for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate date = LocalDate.of(currentMonth.getYear(), currentMonth.getMonth(), day);
-            VBox dayCell = createDayCell(date);
-            calendarGrid.add(dayCell, col, row);
-
-            col++;
-            if (col == 7) {
-                col = 0;
-                row++;
+        List<List<Task>> tasksByDay = getTasksByDay(firstDay, daysInMonth);
+
+        for (int slot = 0; slot < CALENDAR_SLOTS; slot++) {
+            int day = slot - firstDayOfWeek + 1;
+            if (day >= 1 && day <= daysInMonth) {
+                dayCells[slot].show(day, tasksByDay.get(day - 1));
+            } else {
+                dayCells[slot].hide();
             }
         }
     }
 
     /**
-     * Creates a day cell for the calendar.
+     * Gets the tasks for each day of the month with a single range query.
      */
-    private VBox createDayCell(LocalDate date) {
-        VBox cell = new VBox();
-        cell.setStyle("-fx-border: 1px solid #cccccc; -fx-padding: 5;");
-        cell.setPrefHeight(100);
-        cell.setAlignment(Pos.TOP_LEFT);
-
-        // Day number
-        Label dayLabel = new Label(String.valueOf(date.getDayOfMonth()));
-        dayLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 12;");
-        cell.getChildren().add(dayLabel);
-
-        // Get tasks for this date
-        List<Task> tasksForDate = getTasksForDate(date);
-        
-        for (Task task : tasksForDate) {
-            Label taskLabel = new Label(task.getCode() + ": " + task.getTitle());
-            taskLabel.setStyle("-fx-font-size: 10; -fx-text-fill: #0066cc; -fx-wrap-text: true;");
-            taskLabel.setWrapText(true);
-            cell.getChildren().add(taskLabel);
+    private List<List<Task>> getTasksByDay(LocalDate firstDay, int daysInMonth) {
+        List<List<Task>> tasksByDay = new ArrayList<>(daysInMonth);
+        for (int i = 0; i < daysInMonth; i++) {
+            tasksByDay.add(new ArrayList<>());
         }
-
-        return cell;
-    }
-
-    /**
-     * Gets tasks for a specific date.
-     */
-    private List<Task> getTasksForDate(LocalDate date) {
-        List<Task> tasksForDate = new ArrayList<>();
-        Employee currentEmployee = SessionManager.getInstance().getCurrentEmployee();
-
-        for (Task task : allTasks) {
-            LocalDate taskDate = task.getStartDate().toLocalDate();
-            
-            // Check if task starts on this date or is within the date range
-            if (taskDate.equals(date) || 
-                (taskDate.isBefore(date) && task.getEndDate().toLocalDate().isAfter(date))) {
-                
-                // Filter by employee if not admin
-                if (currentEmployee == null || 
-                    task.getAssignedEmployeeId().equals(currentEmployee.getId())) {
-                    tasksForDate.add(task);
-                }
+        long firstEpochDay = firstDay.toEpochDay();
+        long lastEpochDay = firstEpochDay + daysInMonth - 1;
+        taskIndex.query(firstEpochDay, lastEpochDay, task -> {
+            long start = Math.max(task.getStartDate().toLocalDate().toEpochDay(), firstEpochDay);
+            long end = task.getEndDate() != null
+                    ? Math.min(task.getEndDate().toLocalDate().toEpochDay() - 1, lastEpochDay)
+                    : start;
+            for (long day = start; day <= Math.max(start, end); day++) {
+                tasksByDay.get((int) (day - firstEpochDay)).add(task);
             }
-        }
-
-        return tasksForDate;
+        });
+        return tasksByDay;
     }
 
     /**
@@ -164,4 +179,76 @@ public class CalendarController {
         currentMonth = currentMonth.plusMonths(1);
         displayCalendar();
     }
+
+    /**
+     * A reusable calendar cell: the day number, up to MAX_VISIBLE_TASKS task labels and a "+N more" label.
+     */
+    private static class DayCell {
+        private final VBox cell = new VBox();
+        private final Label dayLabel = new Label();
+        private final Label[] taskLabels = new Label[MAX_VISIBLE_TASKS];
+        private final Label moreLabel = new Label();
+        private final Tooltip moreTooltip = new Tooltip();
+
+        DayCell() {
+            cell.setStyle("-fx-border: 1px solid #cccccc; -fx-padding: 5;");
+            cell.setPrefHeight(100);
+            cell.setAlignment(Pos.TOP_LEFT);
+
+            dayLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 12;");
+            cell.getChildren().add(dayLabel);
+
+            for (int i = 0; i < MAX_VISIBLE_TASKS; i++) {
+                Label taskLabel = new Label();
+                taskLabel.setStyle("-fx-font-size: 10; -fx-text-fill: #0066cc; -fx-wrap-text: true;");
+                taskLabel.setWrapText(true);
+                taskLabels[i] = taskLabel;
+                cell.getChildren().add(taskLabel);
+            }
+
+            moreLabel.setStyle("-fx-font-size: 10; -fx-text-fill: #666666; -fx-font-style: italic;");
+            moreLabel.setTooltip(moreTooltip);
+            cell.getChildren().add(moreLabel);
+        }
+
+        void show(int day, List<Task> tasksForDate) {
+            setShown(cell, true);
+            dayLabel.setText(String.valueOf(day));
+
+            for (int i = 0; i < MAX_VISIBLE_TASKS; i++) {
+                boolean used = i < tasksForDate.size();
+                if (used) {
+                    Task task = tasksForDate.get(i);
+                    taskLabels[i].setText(task.getCode() + ": " + task.getTitle());
+                }
+                setShown(taskLabels[i], used);
+            }
+
+            int hidden = tasksForDate.size() - MAX_VISIBLE_TASKS;
+            if (hidden > 0) {
+                moreLabel.setText("+" + hidden + " more");
+                StringBuilder remaining = new StringBuilder();
+                for (Task task : tasksForDate.subList(MAX_VISIBLE_TASKS, tasksForDate.size())) {
+                    if (remaining.length() > 0) {
+                        remaining.append('\n');
+                    }
+                    remaining.append(task.getCode()).append(": ").append(task.getTitle());
+                }
+                moreTooltip.setText(remaining.toString());
+            }
+            setShown(moreLabel, hidden > 0);
+        }
+
+        void hide() {
+            setShown(cell, false);
+        }
+
+        /**
+         * Hidden nodes are also left out of layout, so empty slots and rows take no space.
+         */
+        private static void setShown(Node node, boolean shown) {
+            node.setVisible(shown);
+            node.setManaged(shown);
+        }
+    }
 }
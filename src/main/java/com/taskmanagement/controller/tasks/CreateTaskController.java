@@ -2,15 +2,20 @@ package com.taskmanagement.controller.tasks;
 
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.Employee;
+import com.taskmanagement.model.Priority;
 import com.taskmanagement.model.Project;
-import com.taskmanagement.util.FileManager;
+import com.taskmanagement.model.TaskPhase;
+import com.taskmanagement.repository.EmployeeRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 /**
  * Controller for creating new tasks.
@@ -30,13 +35,13 @@ public class CreateTaskController {
     private ComboBox<String> assignedComboBox;
 
     @FXML
-    private ComboBox<String> phaseComboBox;
+    private ComboBox<TaskPhase> phaseComboBox;
 
     @FXML
     private ComboBox<String> projectComboBox;
 
     @FXML
-    private ComboBox<String> priorityComboBox;
+    private ComboBox<Priority> priorityComboBox;
 
     @FXML
     private DatePicker startDatePicker;
@@ -56,6 +61,9 @@ public class CreateTaskController {
     @FXML
     private Label messageLabel;
 
+    private final Map<String, String> employeeIdsByName = new HashMap<>();
+    private final Map<String, String> projectIdsByName = new HashMap<>();
+
     @FXML
     public void initialize() {
         setupComboBoxes();
@@ -67,32 +75,30 @@ public class CreateTaskController {
      */
     private void setupComboBoxes() {
         // Load employees
-        List<Employee> employees = FileManager.loadEmployees();
+        List<Employee> employees = EmployeeRepository.getInstance().findAll();
         List<String> employeeNames = new java.util.ArrayList<>();
         for (Employee emp : employees) {
             if (emp.isActive()) {
                 employeeNames.add(emp.getName());
+                employeeIdsByName.putIfAbsent(emp.getName(), emp.getId());
             }
         }
         assignedComboBox.setItems(FXCollections.observableArrayList(employeeNames));
 
         // Task phases
-        phaseComboBox.setItems(FXCollections.observableArrayList(
-            "Pending", "Under Work", "Test", "Evaluation", "Completed", "Cancelled"
-        ));
+        phaseComboBox.setItems(FXCollections.observableArrayList(TaskPhase.values()));
 
         // Load projects
-        List<Project> projects = FileManager.loadProjects();
+        List<Project> projects = ProjectRepository.getInstance().findAll();
         List<String> projectNames = new java.util.ArrayList<>();
         for (Project proj : projects) {
             projectNames.add(proj.getName());
+            projectIdsByName.putIfAbsent(proj.getName(), proj.getId());
         }
         projectComboBox.setItems(FXCollections.observableArrayList(projectNames));
 
         // Priority levels
-        priorityComboBox.setItems(FXCollections.observableArrayList(
-            "Low", "Medium", "High", "Critical"
-        ));
+        priorityComboBox.setItems(FXCollections.observableArrayList(Priority.values()));
     }
 
     /**
@@ -116,32 +122,15 @@ public class CreateTaskController {
         String title = titleField.getText().trim();
         String description = descriptionArea.getText().trim();
         String assigned = assignedComboBox.getValue();
-        String phase = phaseComboBox.getValue();
+        TaskPhase phase = phaseComboBox.getValue();
         String project = projectComboBox.getValue();
-        String priority = priorityComboBox.getValue();
+        Priority priority = priorityComboBox.getValue();
         LocalDate startDate = startDatePicker.getValue();
         LocalDate endDate = endDatePicker.getValue();
         int estimationHours = Integer.parseInt(estimationHoursField.getText().trim());
 
-        // Get employee ID from name
-        String employeeId = null;
-        List<Employee> employees = FileManager.loadEmployees();
-        for (Employee emp : employees) {
-            if (emp.getName().equals(assigned)) {
-                employeeId = emp.getId();
-                break;
-            }
-        }
-
-        // Get project ID from name
-        String projectId = null;
-        List<Project> projects = FileManager.loadProjects();
-        for (Project proj : projects) {
-            if (proj.getName().equals(project)) {
-                projectId = proj.getId();
-                break;
-            }
-        }
+        String employeeId = employeeIdsByName.get(assigned);
+        String projectId = projectIdsByName.get(project);
 
         Task newTask = new Task(
             code,
@@ -157,9 +146,7 @@ public class CreateTaskController {
             estimationHours
         );
 
-        List<Task> tasks = FileManager.loadTasks();
-        tasks.add(newTask);
-        FileManager.saveTasks(tasks);
+        TaskRepository.getInstance().save(newTask);
 
         showSuccess("Task created successfully!");
         clearForm();
@@ -181,6 +168,10 @@ public class CreateTaskController {
             showError("Task code cannot be empty!");
             return false;
         }
+        if (TaskRepository.getInstance().exists(codeField.getText().trim())) {
+            showError("Task code already exists!");
+            return false;
+        }
         if (titleField.getText().trim().isEmpty()) {
             showError("Task title cannot be empty!");
             return false;
@@ -0,0 +1,207 @@
+package com.taskmanagement.controller.tasks;
+
+import com.taskmanagement.model.TaskLog;
+import com.taskmanagement.util.PartitionedPages;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Read-only list of task log rows that loads pages from storage as the table asks for them.
+ * Pages are read on a background thread: a row whose page is not cached yet is shown as
+ * {@link TaskLogRow#LOADING} and replaced once the page arrives, so the FX thread never waits
+ * for the disk. Recently used pages are kept in an LRU cache, and the pages next to the one
+ * being viewed are loaded ahead so scrolling rarely shows the loading row.
+ */
+public class PagedTaskLogList extends ObservableListBase<TaskLogRow> {
+    public static final int PAGE_SIZE = 100;
+    private static final int CACHED_PAGES = 20;
+
+    private static final ExecutorService prefetcher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "tasklog-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PartitionedPages<TaskLog> pages;
+    // Guarded by cache
+    private final Map<Integer, List<TaskLogRow>> cache = new LinkedHashMap<Integer, List<TaskLogRow>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<TaskLogRow>> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+    private final Set<Integer> prefetching = new HashSet<>();
+    // Pages that were shown as loading rows and need a change event once read
+    private final Set<Integer> waiting = new HashSet<>();
+    // Bumped whenever rows shift, so a page read before the shift is not cached
+    private int version;
+    private volatile int size;
+
+    /**
+     * @param pages storage pages, already refreshed; must use PAGE_SIZE
+     */
+    public PagedTaskLogList(PartitionedPages<TaskLog> pages) {
+        this.pages = pages;
+        this.size = pages.size();
+    }
+
+    @Override
+    public TaskLogRow get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        int page = index / PAGE_SIZE;
+        List<TaskLogRow> rows;
+        synchronized (cache) {
+            rows = cache.get(page);
+            if (rows == null) {
+                waiting.add(page);
+            }
+        }
+        if (rows == null) {
+            prefetch(page);
+            return TaskLogRow.LOADING;
+        }
+        prefetch(page - 1);
+        prefetch(page + 1);
+        int offset = index % PAGE_SIZE;
+        return offset < rows.size() ? rows.get(offset) : TaskLogRow.LOADING;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Shows a log that was just queued for writing, at the end of its month.
+     */
+    public void addNew(TaskLog taskLog) {
+        int index = pages.append(taskLog);
+        int previousSize = size;
+        size = pages.size();
+        synchronized (cache) {
+            // Rows from the new log on move down by one
+            cache.keySet().removeIf(page -> page >= index / PAGE_SIZE);
+            version++;
+        }
+        beginChange();
+        if (size > previousSize) {
+            nextAdd(index, index + 1);
+        } else {
+            nextUpdate(index);
+        }
+        endChange();
+    }
+
+    /**
+     * Shows the storage pages as they are after a refresh that changed the rows from firstChanged on.
+     * Rows before it keep their cached pages.
+     */
+    public void refreshed(int firstChanged) {
+        int previousSize = size;
+        size = pages.size();
+        if (firstChanged >= previousSize && firstChanged >= size) {
+            return;
+        }
+        synchronized (cache) {
+            cache.keySet().removeIf(page -> page >= firstChanged / PAGE_SIZE);
+            version++;
+        }
+        beginChange();
+        if (previousSize > firstChanged) {
+            // The old rows can no longer be read back; listeners only need how many there were
+            nextRemove(firstChanged, Collections.<TaskLogRow>nCopies(previousSize - firstChanged, null));
+        }
+        if (size > firstChanged) {
+            nextAdd(firstChanged, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the loading rows of a page that was just read. If the rows shifted while it was
+     * read, it was not cached and is read again; after a failed read it is tried on the next get.
+     */
+    private void pageLoaded(int page, boolean retry) {
+        boolean cached;
+        synchronized (cache) {
+            if (!waiting.remove(page)) {
+                return;
+            }
+            cached = cache.containsKey(page);
+        }
+        if (!cached) {
+            if (retry) {
+                synchronized (cache) {
+                    waiting.add(page);
+                }
+                prefetch(page);
+            }
+            return;
+        }
+        int from = page * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, size);
+        if (from < to) {
+            beginChange();
+            nextReplace(from, to, Collections.nCopies(to - from, TaskLogRow.LOADING));
+            endChange();
+        }
+    }
+
+    private List<TaskLogRow> loadPage(int page) {
+        int readVersion;
+        synchronized (cache) {
+            readVersion = version;
+        }
+        int from = page * PAGE_SIZE;
+        List<TaskLog> logs = pages.read(from, Math.min(from + PAGE_SIZE, size));
+        List<TaskLogRow> rows = new ArrayList<>(logs.size());
+        for (TaskLog log : logs) {
+            rows.add(new TaskLogRow(log));
+        }
+        synchronized (cache) {
+            // A log added while this page was read may have shifted it; read it again next time
+            if (readVersion == version) {
+                cache.put(page, rows);
+            }
+        }
+        return rows;
+    }
+
+    private void prefetch(int page) {
+        if (page < 0 || page * PAGE_SIZE >= size) {
+            return;
+        }
+        synchronized (cache) {
+            if (cache.containsKey(page) || !prefetching.add(page)) {
+                return;
+            }
+        }
+        prefetcher.execute(() -> {
+            boolean failed = false;
+            try {
+                loadPage(page);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                failed = true;
+            } finally {
+                synchronized (cache) {
+                    prefetching.remove(page);
+                }
+            }
+            boolean retry = !failed;
+            Platform.runLater(() -> pageLoaded(page, retry));
+        });
+    }
+}
@@ -1,40 +1,47 @@
 package com.taskmanagement.controller.tasks;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
 import com.taskmanagement.model.TaskLog;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.Employee;
+import com.taskmanagement.repository.EffortLedger;
+import com.taskmanagement.repository.EmployeeRepository;
+import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.PartitionedPages;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Controller for managing task logs (time tracking).
  */
-public class TaskLogController {
+public class TaskLogController implements RefreshableView {
 
     @FXML
-    private TableView<TaskLog> taskLogsTable;
+    private TableView<TaskLogRow> taskLogsTable;
 
     @FXML
-    private TableColumn<TaskLog, String> taskColumn;
+    private TableColumn<TaskLogRow, String> taskColumn;
 
     @FXML
-    private TableColumn<TaskLog, String> employeeColumn;
+    private TableColumn<TaskLogRow, String> employeeColumn;
 
     @FXML
-    private TableColumn<TaskLog, String> fromTimeColumn;
+    private TableColumn<TaskLogRow, String> fromTimeColumn;
 
     @FXML
-    private TableColumn<TaskLog, String> toTimeColumn;
+    private TableColumn<TaskLogRow, String> toTimeColumn;
 
     @FXML
-    private TableColumn<TaskLog, String> durationColumn;
+    private TableColumn<TaskLogRow, String> durationColumn;
 
     @FXML
     private ComboBox<String> taskComboBox;
@@ -63,7 +70,13 @@ public class TaskLogController {
     @FXML
     private Label messageLabel;
 
-    private ObservableList<TaskLog> taskLogsList;
+    private final PartitionedPages<TaskLog> pages =
+            new PartitionedPages<>(FileManager.TASK_LOGS, "id", PagedTaskLogList.PAGE_SIZE);
+    private PagedTaskLogList taskLogsList;
+    private final DataVersions taskLogVersions = new DataVersions(() -> FileManager.getVersion(FileManager.TASK_LOGS));
+    private final DataVersions choiceVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.TASKS), () -> FileManager.getVersion(FileManager.EMPLOYEES));
+    private final Map<String, String> employeeIdsByName = new HashMap<>();
 
     @FXML
     public void initialize() {
@@ -74,26 +87,76 @@ public class TaskLogController {
         setupButtonActions();
     }
 
+    @Override
+    public void refresh() {
+        if (choiceVersions.hasChanged()) {
+            employeeIdsByName.clear();
+            setupComboBoxes();
+        }
+        if (taskLogsList != null && taskLogVersions.hasChanged()) {
+            refreshTaskLogs();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
     private void setupTableColumns() {
-        taskColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getTaskCode()));
-        employeeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getEmployeeId()));
-        fromTimeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getFromTime().toString()));
-        toTimeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getToTime().toString()));
-        durationColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
-            String.format("%.2f hours", cellData.getValue().getHoursSpent())
-        ));
+        taskColumn.setCellValueFactory(cellData -> cellData.getValue().taskProperty());
+        employeeColumn.setCellValueFactory(cellData -> cellData.getValue().employeeProperty());
+        fromTimeColumn.setCellValueFactory(cellData -> cellData.getValue().fromTimeProperty());
+        toTimeColumn.setCellValueFactory(cellData -> cellData.getValue().toTimeProperty());
+        durationColumn.setCellValueFactory(cellData -> cellData.getValue().durationProperty());
     }
 
     /**
-     * Loads task logs from the file system.
+     * Indexes the monthly task log files in the background, then shows the logs page by page.
      */
     private void loadTaskLogs() {
-        List<TaskLog> logs = FileManager.loadTaskLogs();
-        taskLogsList = FXCollections.observableArrayList(logs);
-        taskLogsTable.setItems(taskLogsList);
+        taskLogsTable.setPlaceholder(new Label("Loading task logs..."));
+        addLogButton.setDisable(true);
+
+        javafx.concurrent.Task<PagedTaskLogList> loading = new javafx.concurrent.Task<PagedTaskLogList>() {
+            @Override
+            protected PagedTaskLogList call() {
+                pages.refresh();
+                return new PagedTaskLogList(pages);
+            }
+        };
+        loading.setOnSucceeded(e -> {
+            taskLogsList = loading.getValue();
+            taskLogsTable.setItems(taskLogsList);
+            taskLogsTable.setPlaceholder(new Label("No task logs"));
+            addLogButton.setDisable(false);
+        });
+        loading.setOnFailed(e -> {
+            showError("Error loading task logs: " + loading.getException().getMessage());
+            loading.getException().printStackTrace();
+        });
+        Thread worker = new Thread(loading, "tasklog-loader");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Re-indexes, in the background, only the months whose task logs changed since the last load.
+     */
+    private void refreshTaskLogs() {
+        PagedTaskLogList list = taskLogsList;
+        javafx.concurrent.Task<Integer> refreshing = new javafx.concurrent.Task<Integer>() {
+            @Override
+            protected Integer call() {
+                return pages.refresh();
+            }
+        };
+        refreshing.setOnSucceeded(e -> list.refreshed(refreshing.getValue()));
+        refreshing.setOnFailed(e -> {
+            showError("Error loading task logs: " + refreshing.getException().getMessage());
+            refreshing.getException().printStackTrace();
+        });
+        Thread worker = new Thread(refreshing, "tasklog-loader");
+        worker.setDaemon(true);
+        worker.start();
     }
 
     /**
@@ -101,7 +164,7 @@ public class TaskLogController {
      */
     private void setupComboBoxes() {
         // Load tasks
-        List<Task> tasks = FileManager.loadTasks();
+        List<Task> tasks = TaskRepository.getInstance().findAll();
         List<String> taskCodes = new java.util.ArrayList<>();
         for (Task task : tasks) {
             taskCodes.add(task.getCode() + " - " + task.getTitle());
@@ -109,11 +172,12 @@ public class TaskLogController {
         taskComboBox.setItems(FXCollections.observableArrayList(taskCodes));
 
         // Load employees
-        List<Employee> employees = FileManager.loadEmployees();
+        List<Employee> employees = EmployeeRepository.getInstance().findAll();
         List<String> employeeNames = new java.util.ArrayList<>();
         for (Employee emp : employees) {
             if (emp.isActive()) {
                 employeeNames.add(emp.getName());
+                employeeIdsByName.putIfAbsent(emp.getName(), emp.getId());
             }
         }
         employeeComboBox.setItems(FXCollections.observableArrayList(employeeNames));
@@ -162,15 +226,7 @@ public class TaskLogController {
         LocalDateTime fromTime = LocalDateTime.of(logDate, java.time.LocalTime.of(fromHour, fromMinute));
         LocalDateTime toTime = LocalDateTime.of(logDate, java.time.LocalTime.of(toHour, toMinute));
 
-        // Get employee ID from name
-        String employeeId = null;
-        List<Employee> employees = FileManager.loadEmployees();
-        for (Employee emp : employees) {
-            if (emp.getName().equals(employeeName)) {
-                employeeId = emp.getId();
-                break;
-            }
-        }
+        String employeeId = employeeIdsByName.get(employeeName);
 
         TaskLog newLog = new TaskLog(
             UUID.randomUUID().toString(),
@@ -181,11 +237,10 @@ public class TaskLogController {
             ""
         );
 
-        List<TaskLog> logs = FileManager.loadTaskLogs();
-        logs.add(newLog);
-        FileManager.saveTaskLogs(logs);
+        // The ledger queues the log write itself, after its totals include it
+        EffortLedger.getInstance().logAdded(newLog);
 
-        taskLogsList.add(newLog);
+        taskLogsList.addNew(newLog);
         showSuccess("Task log added successfully!");
         clearForm();
     }
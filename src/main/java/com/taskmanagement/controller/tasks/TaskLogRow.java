@@ -0,0 +1,72 @@
+package com.taskmanagement.controller.tasks;
+
+import com.taskmanagement.model.TaskLog;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+/**
+ * A task log as shown in the task log table. Cell texts are formatted once, when the row is
+ * loaded, so scrolling only re-binds existing properties.
+ */
+public class TaskLogRow {
+    /**
+     * Stands in for the rows of a page that is still being read.
+     */
+    public static final TaskLogRow LOADING = new TaskLogRow();
+
+    private final TaskLog taskLog;
+    private final ReadOnlyStringWrapper task;
+    private final ReadOnlyStringWrapper employee;
+    private final ReadOnlyStringWrapper fromTime;
+    private final ReadOnlyStringWrapper toTime;
+    private final ReadOnlyStringWrapper duration;
+
+    public TaskLogRow(TaskLog taskLog) {
+        this.taskLog = taskLog;
+        this.task = new ReadOnlyStringWrapper(taskLog.getTaskCode());
+        this.employee = new ReadOnlyStringWrapper(taskLog.getEmployeeId());
+        this.fromTime = new ReadOnlyStringWrapper(String.valueOf(taskLog.getFromTime()));
+        this.toTime = new ReadOnlyStringWrapper(String.valueOf(taskLog.getToTime()));
+        this.duration = new ReadOnlyStringWrapper(String.format("%.2f hours", taskLog.getHoursSpent()));
+    }
+
+    private TaskLogRow() {
+        this.taskLog = null;
+        this.task = new ReadOnlyStringWrapper("Loading...");
+        this.employee = new ReadOnlyStringWrapper("");
+        this.fromTime = new ReadOnlyStringWrapper("");
+        this.toTime = new ReadOnlyStringWrapper("");
+        this.duration = new ReadOnlyStringWrapper("");
+    }
+
+    /**
+     * Returns the task log, or null for the loading row.
+     */
+    public TaskLog getTaskLog() {
+        return taskLog;
+    }
+
+    public boolean isLoading() {
+        return taskLog == null;
+    }
+
+    public ReadOnlyStringProperty taskProperty() {
+        return task.getReadOnlyProperty();
+    }
+
+    public ReadOnlyStringProperty employeeProperty() {
+        return employee.getReadOnlyProperty();
+    }
+
+    public ReadOnlyStringProperty fromTimeProperty() {
+        return fromTime.getReadOnlyProperty();
+    }
+
+    public ReadOnlyStringProperty toTimeProperty() {
+        return toTime.getReadOnlyProperty();
+    }
+
+    public ReadOnlyStringProperty durationProperty() {
+        return duration.getReadOnlyProperty();
+    }
+}
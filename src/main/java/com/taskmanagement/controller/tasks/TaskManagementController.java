@@ -1,8 +1,11 @@
 package com.taskmanagement.controller.tasks;
 
+import com.taskmanagement.controller.DataVersions;
+import com.taskmanagement.controller.RefreshableView;
+import com.taskmanagement.model.CodedEnum;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.Employee;
-import com.taskmanagement.model.Project;
+import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.util.FileManager;
 import com.taskmanagement.util.SessionManager;
 import javafx.collections.FXCollections;
@@ -10,14 +13,12 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controller for managing all tasks or employee's tasks.
  */
-public class TaskManagementController {
+public class TaskManagementController implements RefreshableView {
 
     @FXML
     private TableView<Task> tasksTable;
@@ -45,6 +46,8 @@ public class TaskManagementController {
 
     private ObservableList<Task> tasksList;
     private boolean myTasksOnly = false;
+    private final DataVersions dataVersions = new DataVersions(
+            () -> FileManager.getVersion(FileManager.TASKS));
 
     /**
      * Sets the mode to show only my tasks or all tasks.
@@ -59,6 +62,13 @@ public class TaskManagementController {
         loadTasks();
     }
 
+    @Override
+    public void refresh() {
+        if (dataVersions.hasChanged()) {
+            loadTasks();
+        }
+    }
+
     /**
      * Sets up the table columns.
      */
@@ -66,24 +76,27 @@ public class TaskManagementController {
         codeColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getCode()));
         titleColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getTitle()));
         assignedColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getAssignedEmployeeId()));
-        phaseColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getTaskPhase()));
+        phaseColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(labelOf(cellData.getValue().getTaskPhase())));
         projectColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getProjectId()));
-        priorityColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(cellData.getValue().getPriority()));
+        priorityColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(labelOf(cellData.getValue().getPriority())));
+    }
+
+    private static String labelOf(CodedEnum value) {
+        return value != null ? value.getLabel() : "";
     }
 
     /**
-     * Loads tasks from the file system.
+     * Loads tasks from the task repository.
      */
     private void loadTasks() {
-        List<Task> tasks = FileManager.loadTasks();
+        TaskRepository repository = TaskRepository.getInstance();
+        List<Task> tasks = repository.findAll();
 
         // Filter tasks if showing only my tasks
         if (myTasksOnly) {
             Employee currentEmployee = SessionManager.getInstance().getCurrentEmployee();
             if (currentEmployee != null) {
-                tasks = tasks.stream()
-                    .filter(t -> t.getAssignedEmployeeId().equals(currentEmployee.getId()))
-                    .collect(Collectors.toList());
+                tasks = repository.findByAssignedEmployee(currentEmployee.getId());
             }
         }
 
@@ -0,0 +1,51 @@
+package com.taskmanagement.model;
+
+/**
+ * Enum with a display label and a stable numeric code used for compact storage.
+ * Codes must never be reused or renumbered once data has been written with them.
+ */
+public interface CodedEnum {
+    int getCode();
+
+    String getLabel();
+
+    /**
+     * Finds the constant with the given code, or null if there is none.
+     */
+    static <E extends Enum<E> & CodedEnum> E fromCode(E[] values, int code) {
+        for (E value : values) {
+            if (value.getCode() == code) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the constant matching a stored value: its name ("UNDER_WORK"), its label ("Under Work")
+     * or its code ("2"), ignoring case. Returns null if nothing matches.
+     */
+    static <E extends Enum<E> & CodedEnum> E fromValue(E[] values, String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        for (E constant : values) {
+            if (constant.name().equals(normalized) || normalize(constant.getLabel()).equals(normalized)) {
+                return constant;
+            }
+        }
+        try {
+            return fromCode(values, Integer.parseInt(normalized));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase().replace(' ', '_').replace('-', '_');
+    }
+}
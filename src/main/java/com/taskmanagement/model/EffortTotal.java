@@ -0,0 +1,52 @@
+package com.taskmanagement.model;
+
+import java.io.Serializable;
+
+public class EffortTotal implements Serializable {
+    private String scope; // TASK, EMPLOYEE, PROJECT
+    private String key;
+    private double hours;
+
+    public EffortTotal() {
+    }
+
+    public EffortTotal(String scope, String key, double hours) {
+        this.scope = scope;
+        this.key = key;
+        this.hours = hours;
+    }
+
+    // Getters and Setters
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public double getHours() {
+        return hours;
+    }
+
+    public void setHours(double hours) {
+        this.hours = hours;
+    }
+
+    @Override
+    public String toString() {
+        return "EffortTotal{" +
+                "scope='" + scope + '\'' +
+                ", key='" + key + '\'' +
+                ", hours=" + hours +
+                '}';
+    }
+}
@@ -1,5 +1,8 @@
 package com.taskmanagement.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.taskmanagement.util.InternedIdAdapter;
+
 import java.io.Serializable;
 
 public class Employee implements Serializable {
@@ -8,6 +11,7 @@ public class Employee implements Serializable {
     private String email;
     private String phone;
     private String employeeType; // Developer, Designer, QA, Manager, etc.
+    @JsonAdapter(InternedIdAdapter.class)
     private String userId; // Reference to User
     private String department;
     private double salary;
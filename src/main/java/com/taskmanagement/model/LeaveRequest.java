@@ -1,16 +1,21 @@
 package com.taskmanagement.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.taskmanagement.util.InternedIdAdapter;
+
 import java.io.Serializable;
 import java.time.LocalDate;
 
 public class LeaveRequest implements Serializable {
     private String id;
+    @JsonAdapter(InternedIdAdapter.class)
     private String employeeId;
     private String leaveType;
     private LocalDate startDate;
     private LocalDate endDate;
     private String reason;
     private String status; // PENDING, APPROVED, REJECTED
+    @JsonAdapter(InternedIdAdapter.class)
     private String reviewedBy;
     private String reviewNotes;
 
@@ -1,10 +1,14 @@
 package com.taskmanagement.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.taskmanagement.util.InternedIdAdapter;
+
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public class MissionRequest implements Serializable {
     private String id;
+    @JsonAdapter(InternedIdAdapter.class)
     private String employeeId;
     private String type; // MISSION, PERMISSION
     private LocalDateTime startTime;
@@ -12,6 +16,7 @@ public class MissionRequest implements Serializable {
     private String destination;
     private String purpose;
     private String status; // PENDING, APPROVED, REJECTED
+    @JsonAdapter(InternedIdAdapter.class)
     private String reviewedBy;
     private String reviewNotes;
 
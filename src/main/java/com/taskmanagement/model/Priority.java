@@ -0,0 +1,39 @@
+package com.taskmanagement.model;
+
+public enum Priority implements CodedEnum {
+    LOW(1, "Low"),
+    MEDIUM(2, "Medium"),
+    HIGH(3, "High"),
+    CRITICAL(4, "Critical");
+
+    private final int code;
+    private final String label;
+
+    Priority(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    public static Priority fromCode(int code) {
+        return CodedEnum.fromCode(values(), code);
+    }
+
+    public static Priority fromValue(String value) {
+        return CodedEnum.fromValue(values(), value);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
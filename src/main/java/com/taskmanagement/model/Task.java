@@ -1,5 +1,8 @@
 package com.taskmanagement.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.taskmanagement.util.InternedIdAdapter;
+
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
@@ -7,10 +10,13 @@ public class Task implements Serializable {
     private String code;
     private String title;
     private String description;
+    @JsonAdapter(InternedIdAdapter.class)
     private String assignedEmployeeId;
-    private String taskPhase; // PENDING, UNDER_WORK, TEST, EVALUATION, CANCELED, COMPLETED
+    private TaskPhase taskPhase;
+    @JsonAdapter(InternedIdAdapter.class)
     private String projectId;
-    private String priority; // LOW, MEDIUM, HIGH, CRITICAL
+    private Priority priority;
+    @JsonAdapter(InternedIdAdapter.class)
     private String creatorId;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
@@ -21,7 +27,7 @@ public class Task implements Serializable {
     }
 
     public Task(String code, String title, String description, String assignedEmployeeId, 
-                String taskPhase, String projectId, String priority, String creatorId, 
+                TaskPhase taskPhase, String projectId, Priority priority, String creatorId, 
                 LocalDateTime startDate, LocalDateTime endDate, double estimationHours) {
         this.code = code;
         this.title = title;
@@ -70,11 +76,11 @@ public class Task implements Serializable {
         this.assignedEmployeeId = assignedEmployeeId;
     }
 
-    public String getTaskPhase() {
+    public TaskPhase getTaskPhase() {
         return taskPhase;
     }
 
-    public void setTaskPhase(String taskPhase) {
+    public void setTaskPhase(TaskPhase taskPhase) {
         this.taskPhase = taskPhase;
     }
 
@@ -86,11 +92,11 @@ public class Task implements Serializable {
         this.projectId = projectId;
     }
 
-    public String getPriority() {
+    public Priority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(Priority priority) {
         this.priority = priority;
     }
 
@@ -140,8 +146,8 @@ public class Task implements Serializable {
                 "code='" + code + '\'' +
                 ", title='" + title + '\'' +
                 ", assignedEmployeeId='" + assignedEmployeeId + '\'' +
-                ", taskPhase='" + taskPhase + '\'' +
-                ", priority='" + priority + '\'' +
+                ", taskPhase=" + (taskPhase != null ? taskPhase.name() : null) +
+                ", priority=" + (priority != null ? priority.name() : null) +
                 '}';
     }
 }
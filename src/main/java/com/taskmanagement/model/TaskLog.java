@@ -1,11 +1,16 @@
 package com.taskmanagement.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.taskmanagement.util.InternedIdAdapter;
+
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public class TaskLog implements Serializable {
     private String id;
+    @JsonAdapter(InternedIdAdapter.class)
     private String taskCode;
+    @JsonAdapter(InternedIdAdapter.class)
     private String employeeId;
     private LocalDateTime fromTime;
     private LocalDateTime toTime;
@@ -0,0 +1,41 @@
+package com.taskmanagement.model;
+
+public enum TaskPhase implements CodedEnum {
+    PENDING(1, "Pending"),
+    UNDER_WORK(2, "Under Work"),
+    TEST(3, "Test"),
+    EVALUATION(4, "Evaluation"),
+    COMPLETED(5, "Completed"),
+    CANCELED(6, "Cancelled");
+
+    private final int code;
+    private final String label;
+
+    TaskPhase(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    public static TaskPhase fromCode(int code) {
+        return CodedEnum.fromCode(values(), code);
+    }
+
+    public static TaskPhase fromValue(String value) {
+        return CodedEnum.fromValue(values(), value);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -1,10 +1,14 @@
 package com.taskmanagement.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.taskmanagement.util.InternedIdAdapter;
+
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public class Timecard implements Serializable {
     private String id;
+    @JsonAdapter(InternedIdAdapter.class)
     private String employeeId;
     private LocalDateTime arrivalTime;
     private LocalDateTime departureTime;
@@ -0,0 +1,268 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.LeaveRequest;
+import com.taskmanagement.model.MissionRequest;
+import com.taskmanagement.model.Timecard;
+import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.IntervalIndex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-employee interval index of the time booked by leave and mission requests, used to reject or
+ * flag overlapping requests. Pending and approved requests are indexed (rejected ones free their
+ * time); all requests are read once, and saves through the request repositories keep it current.
+ * An employee's index is rebuilt only after that employee's requests change, so an overlap query
+ * costs O(log n + matches). Timecards are checked through the timecard repository's sorted index.
+ */
+public class ConflictIndex {
+    public static final String LEAVE = "Leave";
+    public static final String MISSION = "Mission";
+    public static final String TIMECARD = "Timecard";
+
+    private static ConflictIndex instance;
+
+    private final Map<String, EmployeeBookings> byEmployee = new HashMap<>();
+    private boolean loaded;
+
+    private ConflictIndex() {
+    }
+
+    public static synchronized ConflictIndex getInstance() {
+        if (instance == null) {
+            instance = new ConflictIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the leave, missions and timecards that overlap a leave request, other than itself.
+     *
+     * @param approvedOnly true to ignore other pending requests, e.g. when approving
+     */
+    public List<Booking> findConflicts(LeaveRequest request, boolean approvedOnly) {
+        Booking booking = bookingOf(request);
+        List<Booking> conflicts = findOverlapping(request.getEmployeeId(), booking, approvedOnly);
+        if (booking.start == null) {
+            return conflicts;
+        }
+        for (Timecard timecard : TimecardRepository.getInstance().findByEmployeeBetween(
+                request.getEmployeeId(), booking.start.toLocalDate(), booking.end.minusDays(1).toLocalDate())) {
+            conflicts.add(new Booking(TIMECARD, timecard.getId(), "RECORDED",
+                    timecard.getArrivalTime(), timecard.getDepartureTime()));
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the leave and missions that overlap a mission request, other than itself.
+     * Timecards are not conflicts: a mission is time at work.
+     *
+     * @param approvedOnly true to ignore other pending requests, e.g. when approving
+     */
+    public List<Booking> findConflicts(MissionRequest request, boolean approvedOnly) {
+        return findOverlapping(request.getEmployeeId(), bookingOf(request), approvedOnly);
+    }
+
+    /**
+     * True when two leave requests of the same employee book overlapping days, e.g. two requests
+     * being approved together. Their status is not considered.
+     */
+    public static boolean overlap(LeaveRequest first, LeaveRequest second) {
+        return first.getEmployeeId() != null && first.getEmployeeId().equals(second.getEmployeeId())
+                && overlap(bookingOf(first), bookingOf(second));
+    }
+
+    /**
+     * True when two mission requests of the same employee overlap in time. Their status is not considered.
+     */
+    public static boolean overlap(MissionRequest first, MissionRequest second) {
+        return first.getEmployeeId() != null && first.getEmployeeId().equals(second.getEmployeeId())
+                && overlap(bookingOf(first), bookingOf(second));
+    }
+
+    private static boolean overlap(Booking first, Booking second) {
+        if (first.start == null || second.start == null) {
+            return false;
+        }
+        return startMinute(first) <= endMinute(second) && startMinute(second) <= endMinute(first);
+    }
+
+    private synchronized List<Booking> findOverlapping(String employeeId, Booking booking, boolean approvedOnly) {
+        ensureLoaded();
+        List<Booking> overlapping = new ArrayList<>();
+        EmployeeBookings bookings = byEmployee.get(employeeId);
+        if (bookings == null || booking.start == null) {
+            return overlapping;
+        }
+        bookings.index().query(startMinute(booking), endMinute(booking), other -> {
+            if (!other.id.equals(booking.id) && (!approvedOnly || "APPROVED".equals(other.status))) {
+                overlapping.add(other);
+            }
+        });
+        return overlapping;
+    }
+
+    /**
+     * Updates the index after leave requests were saved.
+     */
+    synchronized void leaveRequestsSaved(List<LeaveRequest> requests) {
+        if (!loaded) {
+            return;
+        }
+        for (LeaveRequest request : requests) {
+            update(request.getEmployeeId(), bookingOf(request));
+        }
+    }
+
+    /**
+     * Updates the index after mission requests were saved.
+     */
+    synchronized void missionRequestsSaved(List<MissionRequest> requests) {
+        if (!loaded) {
+            return;
+        }
+        for (MissionRequest request : requests) {
+            update(request.getEmployeeId(), bookingOf(request));
+        }
+    }
+
+    /**
+     * Drops the index so the next query reads the request files again.
+     */
+    public synchronized void invalidate() {
+        byEmployee.clear();
+        loaded = false;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        FileManager.forEachMatching(FileManager.LEAVE_REQUESTS, request -> request.getEmployeeId() != null,
+                request -> update(request.getEmployeeId(), bookingOf(request)));
+        FileManager.forEachMatching(FileManager.MISSION_REQUESTS, request -> request.getEmployeeId() != null,
+                request -> update(request.getEmployeeId(), bookingOf(request)));
+        loaded = true;
+    }
+
+    private void update(String employeeId, Booking booking) {
+        if (employeeId == null) {
+            return;
+        }
+        EmployeeBookings bookings = byEmployee.computeIfAbsent(employeeId, e -> new EmployeeBookings());
+        if (booking.start == null || "REJECTED".equals(booking.status)) {
+            bookings.remove(booking.id);
+        } else {
+            bookings.put(booking);
+        }
+    }
+
+    /**
+     * Returns the time a leave request books, whatever its status.
+     */
+    public static Booking bookingOf(LeaveRequest request) {
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate() != null ? request.getEndDate() : start;
+        return new Booking(LEAVE, request.getId(), request.getStatus(),
+                start != null ? start.atStartOfDay() : null,
+                end != null ? end.plusDays(1).atStartOfDay() : null);
+    }
+
+    /**
+     * Returns the time a mission request books, whatever its status.
+     */
+    public static Booking bookingOf(MissionRequest request) {
+        return new Booking(MISSION, request.getId(), request.getStatus(), request.getStartTime(), request.getEndTime());
+    }
+
+    /**
+     * Bookings are half-open [start, end); the index uses closed intervals of whole minutes.
+     */
+    private static long startMinute(Booking booking) {
+        return booking.start.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static long endMinute(Booking booking) {
+        return booking.end != null ? booking.end.toEpochSecond(ZoneOffset.UTC) / 60 - 1 : startMinute(booking);
+    }
+
+    /**
+     * One employee's bookings by id, with an interval index built on demand.
+     */
+    private static class EmployeeBookings {
+        private final Map<String, Booking> byId = new HashMap<>();
+        private IntervalIndex<Booking> index;
+
+        void put(Booking booking) {
+            byId.put(booking.id, booking);
+            index = null;
+        }
+
+        void remove(String id) {
+            if (byId.remove(id) != null) {
+                index = null;
+            }
+        }
+
+        IntervalIndex<Booking> index() {
+            if (index == null) {
+                index = new IntervalIndex<>(byId.values(), ConflictIndex::startMinute, ConflictIndex::endMinute);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Time taken by a leave request, mission request or timecard.
+     */
+    public static class Booking {
+        private final String kind;
+        private final String id;
+        private final String status;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        Booking(String kind, String id, String status, LocalDateTime start, LocalDateTime end) {
+            this.kind = kind;
+            this.id = id;
+            this.status = status;
+            this.start = start;
+            this.end = end;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            if (LEAVE.equals(kind)) {
+                return kind + " " + start.toLocalDate() + " to " + end.minusDays(1).toLocalDate() + " (" + status + ")";
+            }
+            return kind + " " + start + (end != null ? " to " + end : "") + " (" + status + ")";
+        }
+    }
+}
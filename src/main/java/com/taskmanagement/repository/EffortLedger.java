@@ -0,0 +1,244 @@
+package com.taskmanagement.repository;
+
+import com.google.gson.reflect.TypeToken;
+import com.taskmanagement.model.EffortTotal;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskLog;
+import com.taskmanagement.util.EntityJournal;
+import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.PartitionedStore;
+import com.taskmanagement.util.PersistenceQueue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running totals of logged hours per task and employee.
+ * Task log writes adjust the totals by the difference they make instead of re-summing
+ * every log; the totals are kept in effort.json and mirrored into Task.actualHours.
+ * Project totals are the sum of their tasks' totals, so they follow a task that moves project.
+ * <p>
+ * The ledger queues the task log writes itself, on its own thread: a change is applied, the log
+ * is queued, and the totals are queued to be written after it. effort.json also records the
+ * stamps of the task log files it was computed from (see {@link FileManager#stampOf}); if they
+ * differ on load, e.g. after a crash between the two writes, the totals are rebuilt from the logs.
+ */
+public class EffortLedger {
+    public static final String EFFORT_FILE = "effort.json";
+    private static final String SCOPE_TASK = "TASK";
+    private static final String SCOPE_EMPLOYEE = "EMPLOYEE";
+    // Stamps of the task log files the totals match
+    private static final String SCOPE_SOURCE = "SOURCE";
+    // Totals this close to zero are rounding leftovers from adding and removing hours
+    private static final double EPSILON = 1e-9;
+
+    private static EffortLedger instance;
+
+    private static final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "effort-ledger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Double> taskHours = new HashMap<>();
+    private final Map<String, Double> employeeHours = new HashMap<>();
+    private boolean loaded;
+
+    private EffortLedger() {
+    }
+
+    public static synchronized EffortLedger getInstance() {
+        if (instance == null) {
+            instance = new EffortLedger();
+        }
+        return instance;
+    }
+
+    public synchronized double getTaskHours(String taskCode) {
+        ensureLoaded();
+        return taskHours.getOrDefault(taskCode, 0.0);
+    }
+
+    public synchronized double getEmployeeHours(String employeeId) {
+        ensureLoaded();
+        return employeeHours.getOrDefault(employeeId, 0.0);
+    }
+
+    public synchronized double getProjectHours(String projectId) {
+        ensureLoaded();
+        double hours = 0;
+        for (Task task : TaskRepository.getInstance().findByProject(projectId)) {
+            hours += taskHours.getOrDefault(task.getCode(), 0.0);
+        }
+        return hours;
+    }
+
+    /**
+     * Loads the totals, rebuilding them from the logs if needed. Call it off the FX thread, e.g. from the preloader.
+     */
+    public synchronized void load() {
+        ensureLoaded();
+    }
+
+    /**
+     * Adds a new log's hours to the totals and queues the log for writing. Returns at once;
+     * the totals are loaded first if needed, on the ledger's thread.
+     */
+    public void logAdded(TaskLog log) {
+        worker.execute(() -> logChanged(null, log));
+    }
+
+    /**
+     * Replaces an edited log's previous hours with its current hours and queues the log for writing.
+     */
+    public void logUpdated(TaskLog previous, TaskLog updated) {
+        worker.execute(() -> logChanged(previous, updated));
+    }
+
+    /**
+     * Removes a deleted log's hours from the totals and queues its deletion.
+     */
+    public void logDeleted(TaskLog log) {
+        worker.execute(() -> logChanged(log, null));
+    }
+
+    /**
+     * Waits for changes reported so far to be queued for writing, e.g. before the application exits.
+     */
+    public static void shutdown() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void logChanged(TaskLog previous, TaskLog current) {
+        try {
+            // Loaded before the log is queued, so a rebuild from the log files does not count it already
+            ensureLoaded();
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            if (current != null) {
+                apply(current, 1);
+            }
+            if (previous != null) {
+                updateActualHours(previous.getTaskCode());
+            }
+            if (current != null && (previous == null || !Objects.equals(current.getTaskCode(), previous.getTaskCode()))) {
+                updateActualHours(current.getTaskCode());
+            }
+            // Partitions are resolved first; then one batch, so no drain writes the log without the totals
+            PartitionedStore<TaskLog> store = FileManager.TASK_LOGS;
+            EntityJournal<TaskLog> target = current != null ? store.partitionOf(current) : null;
+            EntityJournal<TaskLog> source = previous != null ? store.partitionOf(previous) : null;
+            PersistenceQueue queue = PersistenceQueue.getInstance();
+            queue.batch(() -> {
+                if (target != null) {
+                    queue.put(target, current);
+                }
+                if (source != null && source != target) {
+                    queue.delete(source, store.keyOf(previous));
+                }
+                persist();
+            });
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Recomputes every total from the task logs, e.g. after the log files were changed outside the app.
+     */
+    public synchronized void rebuild() {
+        taskHours.clear();
+        employeeHours.clear();
+        FileManager.forEachMatching(FileManager.TASK_LOGS, log -> true, log -> apply(log, 1));
+        for (Task task : TaskRepository.getInstance().findAll()) {
+            if (Math.abs(task.getActualHours() - taskHours.getOrDefault(task.getCode(), 0.0)) > EPSILON) {
+                updateActualHours(task.getCode());
+            }
+        }
+        loaded = true;
+        persist();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        List<EffortTotal> totals = FileManager.loadFromFile(EFFORT_FILE, new TypeToken<List<EffortTotal>>() {}.getType());
+        String source = null;
+        for (EffortTotal total : totals) {
+            if (SCOPE_SOURCE.equals(total.getScope())) {
+                source = total.getKey();
+            } else if (SCOPE_TASK.equals(total.getScope())) {
+                taskHours.put(total.getKey(), total.getHours());
+            } else if (SCOPE_EMPLOYEE.equals(total.getScope())) {
+                employeeHours.put(total.getKey(), total.getHours());
+            }
+        }
+        if (!FileManager.TASK_LOGS.fingerprint().equals(source)) {
+            // First run with the ledger, or the logs changed since the totals were saved: derive them from the logs
+            rebuild();
+            return;
+        }
+        loaded = true;
+    }
+
+    private void apply(TaskLog log, int sign) {
+        double hours = sign * log.getHoursSpent();
+        add(taskHours, log.getTaskCode(), hours);
+        add(employeeHours, log.getEmployeeId(), hours);
+    }
+
+    private static void add(Map<String, Double> totals, String key, double hours) {
+        if (key == null) {
+            return;
+        }
+        double total = totals.getOrDefault(key, 0.0) + hours;
+        if (Math.abs(total) < EPSILON) {
+            totals.remove(key);
+        } else {
+            totals.put(key, total);
+        }
+    }
+
+    private void updateActualHours(String taskCode) {
+        TaskRepository repository = TaskRepository.getInstance();
+        Task task = repository.findById(taskCode);
+        if (task != null) {
+            task.setActualHours(taskHours.getOrDefault(taskCode, 0.0));
+            repository.save(task);
+        }
+    }
+
+    /**
+     * Queues a write of the current totals after the task logs queued so far; later changes replace
+     * a write that has not run yet. The log files' stamps are taken when the write runs.
+     */
+    private void persist() {
+        List<EffortTotal> totals = new ArrayList<>(taskHours.size() + employeeHours.size() + 1);
+        addTotals(totals, SCOPE_TASK, taskHours);
+        addTotals(totals, SCOPE_EMPLOYEE, employeeHours);
+        PersistenceQueue.getInstance().submitDerived(EFFORT_FILE, () -> {
+            List<EffortTotal> withSource = new ArrayList<>(totals);
+            withSource.add(new EffortTotal(SCOPE_SOURCE, FileManager.TASK_LOGS.fingerprint(), 0));
+            FileManager.writeToFile(withSource, EFFORT_FILE);
+        });
+    }
+
+    private static void addTotals(List<EffortTotal> totals, String scope, Map<String, Double> hoursByKey) {
+        for (Map.Entry<String, Double> entry : hoursByKey.entrySet()) {
+            totals.add(new EffortTotal(scope, entry.getKey(), entry.getValue()));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Employee;
+import com.taskmanagement.util.FileManager;
+
+import java.util.List;
+
+/**
+ * Employees keyed by id, indexed by linked user account.
+ */
+public class EmployeeRepository extends Repository<Employee> {
+    private static EmployeeRepository instance;
+
+    private final SecondaryIndex<Employee> byUserId;
+
+    private EmployeeRepository() {
+        super(FileManager.EMPLOYEES);
+        byUserId = addIndex(Employee::getUserId);
+    }
+
+    public static synchronized EmployeeRepository getInstance() {
+        if (instance == null) {
+            instance = new EmployeeRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the employee linked to the given user account, or null.
+     */
+    public Employee findByUserId(String userId) {
+        List<Employee> employees = findBy(byUserId, userId);
+        return employees.isEmpty() ? null : employees.get(0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.LeaveRequest;
+import com.taskmanagement.util.FileManager;
+
+import java.util.List;
+
+/**
+ * Leave requests, with the pending ones held in memory for the approval screen.
+ */
+public class LeaveRequestRepository extends RequestRepository<LeaveRequest> {
+    private static LeaveRequestRepository instance;
+
+    private LeaveRequestRepository() {
+        super(FileManager.LEAVE_REQUESTS);
+    }
+
+    public static synchronized LeaveRequestRepository getInstance() {
+        if (instance == null) {
+            instance = new LeaveRequestRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Saves the requests and updates the conflict index with their new dates and status.
+     */
+    @Override
+    public synchronized void saveAll(List<LeaveRequest> requests) {
+        super.saveAll(requests);
+        ConflictIndex.getInstance().leaveRequestsSaved(requests);
+    }
+
+    /**
+     * Returns all of an employee's requests, pending and decided.
+     */
+    public List<LeaveRequest> findByEmployee(String employeeId) {
+        return findMatching(request -> employeeId.equals(request.getEmployeeId()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.MissionRequest;
+import com.taskmanagement.util.FileManager;
+
+import java.util.List;
+
+/**
+ * Mission requests, with the pending ones held in memory for the approval screen.
+ */
+public class MissionRequestRepository extends RequestRepository<MissionRequest> {
+    private static MissionRequestRepository instance;
+
+    private MissionRequestRepository() {
+        super(FileManager.MISSION_REQUESTS);
+    }
+
+    public static synchronized MissionRequestRepository getInstance() {
+        if (instance == null) {
+            instance = new MissionRequestRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Saves the requests and updates the conflict index with their new dates and status.
+     */
+    @Override
+    public synchronized void saveAll(List<MissionRequest> requests) {
+        super.saveAll(requests);
+        ConflictIndex.getInstance().missionRequestsSaved(requests);
+    }
+
+    /**
+     * Returns all of an employee's requests, pending and decided.
+     */
+    public List<MissionRequest> findByEmployee(String employeeId) {
+        return findMatching(request -> employeeId.equals(request.getEmployeeId()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Project;
+import com.taskmanagement.util.FileManager;
+
+/**
+ * Projects keyed by id.
+ */
+public class ProjectRepository extends Repository<Project> {
+    private static ProjectRepository instance;
+
+    private ProjectRepository() {
+        super(FileManager.PROJECTS);
+    }
+
+    public static synchronized ProjectRepository getInstance() {
+        if (instance == null) {
+            instance = new ProjectRepository();
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.util.EntityJournal;
+import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.PersistenceQueue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Process-wide in-memory store for one entity type.
+ * Records are loaded from disk once, kept in a primary-key hash index plus any
+ * secondary indexes, and every change is written through to the entity journal
+ * by the background PersistenceQueue.
+ */
+public class Repository<T> {
+    private final EntityJournal<T> journal;
+    private final Map<String, T> byKey = new LinkedHashMap<>();
+    private final List<SecondaryIndex<T>> indexes = new ArrayList<>();
+    private boolean loaded;
+
+    protected Repository(EntityJournal<T> journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Registers a secondary index. Must be called from the subclass constructor.
+     */
+    protected SecondaryIndex<T> addIndex(Function<T, String> attribute) {
+        SecondaryIndex<T> index = new SecondaryIndex<>(attribute);
+        indexes.add(index);
+        return index;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        for (T record : FileManager.loadJournaled(journal)) {
+            index(journal.keyOf(record), record);
+        }
+        loaded = true;
+    }
+
+    private void index(String key, T record) {
+        byKey.put(key, record);
+        for (SecondaryIndex<T> index : indexes) {
+            index.add(key, record);
+        }
+    }
+
+    /**
+     * Returns all records in storage order.
+     */
+    public synchronized List<T> findAll() {
+        ensureLoaded();
+        return new ArrayList<>(byKey.values());
+    }
+
+    /**
+     * Looks up a record by primary key, or returns null.
+     */
+    public synchronized T findById(String key) {
+        ensureLoaded();
+        return key != null ? byKey.get(key) : null;
+    }
+
+    public synchronized boolean exists(String key) {
+        return findById(key) != null;
+    }
+
+    /**
+     * Returns the records whose indexed attribute equals the given value.
+     */
+    protected synchronized List<T> findBy(SecondaryIndex<T> index, String value) {
+        ensureLoaded();
+        List<T> result = new ArrayList<>();
+        for (String key : index.keysFor(value)) {
+            result.add(byKey.get(key));
+        }
+        return result;
+    }
+
+    /**
+     * Inserts or updates a record, re-indexing it and writing it through to disk.
+     */
+    public synchronized void save(T record) {
+        ensureLoaded();
+        index(journal.keyOf(record), record);
+        PersistenceQueue.getInstance().put(journal, record);
+    }
+
+    /**
+     * Removes a record by primary key and writes the deletion through to disk.
+     */
+    public synchronized void delete(String key) {
+        ensureLoaded();
+        if (byKey.remove(key) == null) {
+            return;
+        }
+        for (SecondaryIndex<T> index : indexes) {
+            index.remove(key);
+        }
+        PersistenceQueue.getInstance().delete(journal, key);
+    }
+
+    /**
+     * Drops the in-memory state so the next access reloads from disk.
+     */
+    public synchronized void invalidate() {
+        byKey.clear();
+        for (SecondaryIndex<T> index : indexes) {
+            index.clear();
+        }
+        loaded = false;
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.util.EntityJournal;
+import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.PersistenceQueue;
+import com.taskmanagement.util.RequestStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Requests of one kind, with the pending ones kept in memory keyed by id.
+ * Only the pending file is read to build that hot set, so it does not grow with the history
+ * of decided requests. A decision moves the request to the decided file and touches nothing else.
+ */
+public class RequestRepository<T> {
+    private final RequestStore<T> store;
+    private final Map<String, T> pendingById = new LinkedHashMap<>();
+    private boolean loaded;
+
+    protected RequestRepository(RequestStore<T> store) {
+        this.store = store;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        for (T record : FileManager.loadJournaled(store.getPending())) {
+            pendingById.put(store.keyOf(record), record);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Returns the requests waiting for a decision, oldest first.
+     */
+    public synchronized List<T> findPending() {
+        ensureLoaded();
+        return new ArrayList<>(pendingById.values());
+    }
+
+    /**
+     * Looks up a pending request by id, or returns null.
+     */
+    public synchronized T findPendingById(String key) {
+        ensureLoaded();
+        return key != null ? pendingById.get(key) : null;
+    }
+
+    /**
+     * Returns the pending and decided requests that match the filter, reading both files.
+     */
+    public List<T> findMatching(Predicate<T> filter) {
+        return FileManager.loadMatching(store, filter);
+    }
+
+    /**
+     * Saves a new or changed request to the file of its status. A pending request that was
+     * decided is moved from the pending file to the decided one. Decided requests are final.
+     */
+    public void save(T record) {
+        saveAll(Collections.singletonList(record));
+    }
+
+    /**
+     * Saves several requests as one batch, e.g. a bulk approval: however many requests there are,
+     * the decided file gets one append and the pending file one append of deletions.
+     */
+    public synchronized void saveAll(List<T> records) {
+        ensureLoaded();
+        EntityJournal<T> pendingFile = store.getPending();
+        EntityJournal<T> decidedFile = store.getDecided();
+        List<T> pending = new ArrayList<>();
+        List<T> decided = new ArrayList<>();
+        List<String> noLongerPending = new ArrayList<>();
+        for (T record : records) {
+            String key = store.keyOf(record);
+            boolean wasPending = pendingById.remove(key) != null;
+            if (store.isPending(record)) {
+                pendingById.put(key, record);
+                pending.add(record);
+            } else {
+                decided.add(record);
+                if (wasPending) {
+                    noLongerPending.add(key);
+                }
+            }
+        }
+        PersistenceQueue queue = PersistenceQueue.getInstance();
+        queue.batch(() -> {
+            for (T record : pending) {
+                queue.put(pendingFile, record);
+            }
+            for (T record : decided) {
+                queue.put(decidedFile, record);
+            }
+            for (String key : noLongerPending) {
+                queue.delete(pendingFile, key);
+            }
+        });
+    }
+
+    /**
+     * Drops the in-memory state so the next access reloads from disk.
+     */
+    public synchronized void invalidate() {
+        pendingById.clear();
+        loaded = false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Hash index from an attribute value to the primary keys of the records that have it.
+ * The indexed value of every key is remembered so records mutated in place can be re-indexed.
+ */
+public class SecondaryIndex<T> {
+    private final Function<T, String> attribute;
+    private final Map<String, Set<String>> keysByValue = new HashMap<>();
+    private final Map<String, String> valueByKey = new HashMap<>();
+
+    public SecondaryIndex(Function<T, String> attribute) {
+        this.attribute = attribute;
+    }
+
+    void add(String key, T record) {
+        remove(key);
+        String value = attribute.apply(record);
+        if (value != null) {
+            keysByValue.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(key);
+            valueByKey.put(key, value);
+        }
+    }
+
+    void remove(String key) {
+        String value = valueByKey.remove(key);
+        if (value != null) {
+            Set<String> keys = keysByValue.get(value);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByValue.remove(value);
+            }
+        }
+    }
+
+    void clear() {
+        keysByValue.clear();
+        valueByKey.clear();
+    }
+
+    Set<String> keysFor(String value) {
+        Set<String> keys = keysByValue.get(value);
+        return keys != null ? keys : Collections.emptySet();
+    }
+}
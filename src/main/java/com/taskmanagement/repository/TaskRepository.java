@@ -0,0 +1,37 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.util.FileManager;
+
+import java.util.List;
+
+/**
+ * Tasks keyed by code, indexed by assigned employee and by project.
+ */
+public class TaskRepository extends Repository<Task> {
+    private static TaskRepository instance;
+
+    private final SecondaryIndex<Task> byEmployee;
+    private final SecondaryIndex<Task> byProject;
+
+    private TaskRepository() {
+        super(FileManager.TASKS);
+        byEmployee = addIndex(Task::getAssignedEmployeeId);
+        byProject = addIndex(Task::getProjectId);
+    }
+
+    public static synchronized TaskRepository getInstance() {
+        if (instance == null) {
+            instance = new TaskRepository();
+        }
+        return instance;
+    }
+
+    public List<Task> findByAssignedEmployee(String employeeId) {
+        return findBy(byEmployee, employeeId);
+    }
+
+    public List<Task> findByProject(String projectId) {
+        return findBy(byProject, projectId);
+    }
+}
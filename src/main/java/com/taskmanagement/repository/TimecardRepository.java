@@ -0,0 +1,165 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.Timecard;
+import com.taskmanagement.util.EntityJournal;
+import com.taskmanagement.util.FileManager;
+import com.taskmanagement.util.PartitionedStore;
+import com.taskmanagement.util.PersistenceQueue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timecards indexed by employee, each employee's kept sorted by arrival time.
+ * Each employee's timecards are stored in a directory of their own, one file per month
+ * (see {@link FileManager#timecardsOf}), so loading an employee reads only that employee's files,
+ * and only employees that are asked for are loaded. Changes update the index in place and are
+ * written to the file of the timecard's employee and month only.
+ */
+public class TimecardRepository {
+    private static final Comparator<Timecard> BY_ARRIVAL =
+            Comparator.comparing(Timecard::getArrivalTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static TimecardRepository instance;
+
+    private final Map<String, List<Timecard>> timecardsByEmployee = new HashMap<>();
+    // Where each loaded timecard is stored, so a change of date or employee can move it
+    private final Map<String, String> monthById = new HashMap<>();
+    private final Map<String, String> employeeById = new HashMap<>();
+
+    private TimecardRepository() {
+    }
+
+    public static synchronized TimecardRepository getInstance() {
+        if (instance == null) {
+            instance = new TimecardRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns an employee's timecards, oldest arrival first.
+     */
+    public synchronized List<Timecard> findByEmployee(String employeeId) {
+        return new ArrayList<>(timecardsOf(employeeId));
+    }
+
+    /**
+     * Returns an employee's timecards with an arrival date within [from, to], oldest first.
+     */
+    public synchronized List<Timecard> findByEmployeeBetween(String employeeId, LocalDate from, LocalDate to) {
+        List<Timecard> timecards = timecardsOf(employeeId);
+        int start = firstArrivingFrom(timecards, from.atStartOfDay());
+        int end = firstArrivingFrom(timecards, to.plusDays(1).atStartOfDay());
+        return new ArrayList<>(timecards.subList(start, Math.max(start, end)));
+    }
+
+    /**
+     * Inserts or updates a timecard and writes it through to the file of its employee and month.
+     */
+    public synchronized void save(Timecard timecard) {
+        String employeeId = timecard.getEmployeeId();
+        List<Timecard> timecards = timecardsOf(employeeId);
+        String previousMonth = monthById.get(timecard.getId());
+        String previousEmployeeId = employeeById.get(timecard.getId());
+        unindex(timecard.getId());
+
+        int position = Collections.binarySearch(timecards, timecard, BY_ARRIVAL);
+        timecards.add(position >= 0 ? position + 1 : -position - 1, timecard);
+        PartitionedStore<Timecard> store = FileManager.timecardsOf(employeeId);
+        String month = store.monthOf(timecard);
+        monthById.put(timecard.getId(), month);
+        employeeById.put(timecard.getId(), employeeId);
+
+        // Partitions are resolved before the queue lock is taken, as the first use of a store may migrate it
+        EntityJournal<Timecard> target = store.partition(month);
+        EntityJournal<Timecard> source = previousMonth != null
+                ? FileManager.timecardsOf(previousEmployeeId).partition(previousMonth) : target;
+        PersistenceQueue queue = PersistenceQueue.getInstance();
+        queue.batch(() -> {
+            if (source != target) {
+                queue.delete(source, timecard.getId());
+            }
+            queue.put(target, timecard);
+        });
+    }
+
+    /**
+     * Removes a timecard and writes the deletion through to the file of its employee and month.
+     */
+    public synchronized void delete(Timecard timecard) {
+        timecardsOf(timecard.getEmployeeId());
+        String month = monthById.get(timecard.getId());
+        String employeeId = employeeById.get(timecard.getId());
+        unindex(timecard.getId());
+        EntityJournal<Timecard> partition = month != null
+                ? FileManager.timecardsOf(employeeId).partition(month)
+                : FileManager.timecardsOf(timecard.getEmployeeId()).partitionOf(timecard);
+        PersistenceQueue.getInstance().delete(partition, timecard.getId());
+    }
+
+    /**
+     * Drops the loaded timecards so they are read again, e.g. after the files were changed outside the app.
+     */
+    public synchronized void invalidate() {
+        timecardsByEmployee.clear();
+        monthById.clear();
+        employeeById.clear();
+    }
+
+    /**
+     * Returns the sorted timecards of an employee, reading that employee's files on first use.
+     */
+    private List<Timecard> timecardsOf(String employeeId) {
+        List<Timecard> timecards = timecardsByEmployee.get(employeeId);
+        if (timecards != null) {
+            return timecards;
+        }
+        PartitionedStore<Timecard> store = FileManager.timecardsOf(employeeId);
+        timecards = new ArrayList<>();
+        for (EntityJournal<Timecard> partition : store.partitions()) {
+            String month = store.monthOf(partition);
+            for (Timecard timecard : FileManager.loadJournaled(partition)) {
+                timecards.add(timecard);
+                monthById.put(timecard.getId(), month);
+                employeeById.put(timecard.getId(), employeeId);
+            }
+        }
+        timecards.sort(BY_ARRIVAL);
+        timecardsByEmployee.put(employeeId, timecards);
+        return timecards;
+    }
+
+    private void unindex(String id) {
+        monthById.remove(id);
+        String employeeId = employeeById.remove(id);
+        List<Timecard> timecards = employeeId != null ? timecardsByEmployee.get(employeeId) : null;
+        if (timecards != null) {
+            timecards.removeIf(timecard -> id.equals(timecard.getId()));
+        }
+    }
+
+    /**
+     * Index of the first timecard arriving at or after the given time; timecards without one sort first.
+     */
+    private static int firstArrivingFrom(List<Timecard> timecards, LocalDateTime time) {
+        int low = 0;
+        int high = timecards.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            LocalDateTime arrival = timecards.get(middle).getArrivalTime();
+            if (arrival == null || arrival.isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
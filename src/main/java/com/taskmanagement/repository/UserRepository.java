@@ -0,0 +1,69 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.User;
+import com.taskmanagement.util.FileManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Users keyed by id, indexed by username.
+ */
+public class UserRepository extends Repository<User> {
+    private static UserRepository instance;
+
+    private final SecondaryIndex<User> byUsername;
+
+    private UserRepository() {
+        super(FileManager.USERS);
+        byUsername = addIndex(User::getUsername);
+    }
+
+    public static synchronized UserRepository getInstance() {
+        if (instance == null) {
+            instance = new UserRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the user with the given username, or null.
+     */
+    public User findByUsername(String username) {
+        List<User> users = findBy(byUsername, username);
+        return users.isEmpty() ? null : users.get(0);
+    }
+
+    /**
+     * Replaces a user's password hash, e.g. to upgrade it to the configured cost at login.
+     * The cached user is not changed in place: an updated copy is saved in its stead, so other
+     * threads never see a half-changed user. If the hash changed since the caller read it,
+     * nothing is changed.
+     *
+     * @return the user as it is now stored, or null if it no longer exists
+     */
+    public synchronized User replacePasswordHash(String userId, String previousHash, String newHash) {
+        User current = findById(userId);
+        if (current == null || !previousHash.equals(current.getPassword())) {
+            return current;
+        }
+        User updated = new User(current.getId(), current.getUsername(), newHash, current.getRole(), current.getEmail());
+        updated.setActive(current.isActive());
+        save(updated);
+        return updated;
+    }
+
+    /**
+     * Saves a user only if there are no users at all, e.g. the default admin on first run.
+     * Lookups wait until this is done, so a login can't run between the check and the save.
+     *
+     * @return true if the user was saved
+     */
+    public synchronized boolean saveIfEmpty(Supplier<User> user) {
+        if (!findAll().isEmpty()) {
+            return false;
+        }
+        save(user.get());
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanagement.util;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+/**
+ * BCrypt password hasher with a configurable cost (log2 of the number of rounds).
+ */
+public class BCryptPasswordHasher implements PasswordHasher {
+    public static final int DEFAULT_COST = 10;
+    public static final int MIN_COST = 4;
+    public static final int MAX_COST = 31;
+
+    private final int cost;
+
+    public BCryptPasswordHasher(int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("BCrypt cost must be between " + MIN_COST + " and " + MAX_COST + ": " + cost);
+        }
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public String hash(String plainPassword) {
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(cost));
+    }
+
+    @Override
+    public boolean verify(String plainPassword, String hashedPassword) {
+        return BCrypt.checkpw(plainPassword, hashedPassword);
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        int storedCost = costOf(hashedPassword);
+        return storedCost > 0 && storedCost != cost;
+    }
+
+    /**
+     * Reads the cost from a hash such as "$2a$10$...", or returns -1 if it is not a BCrypt hash.
+     */
+    static int costOf(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = hashedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > hashedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.taskmanagement.util;
+
+import com.taskmanagement.model.*;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary copy of an entity snapshot (e.g. tasks.json -> tasks.bin).
+ * Records use a fixed field layout per entity, dates are stored as epoch seconds/days
+ * and every string (ids, statuses, roles...) is written once into a string table and
+ * referenced by index. The header carries the stamp the JSON snapshot was given when it was
+ * written (see {@link FileManager#stampOf}), so a stale binary copy is never used, and checking
+ * it needs no read of the JSON.
+ */
+public class BinarySnapshot {
+    private static final int MAGIC = 0x544D5342; // "TMSB"
+    private static final int VERSION = 4;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<Class<?>, RecordCodec<?>> CODECS = new HashMap<>();
+
+    /**
+     * Writes and reads one entity type in a fixed field order.
+     */
+    public interface RecordCodec<T> {
+        void write(T record, Output out) throws IOException;
+
+        T read(Input in) throws IOException;
+    }
+
+    static {
+        register(User.class, new RecordCodec<User>() {
+            public void write(User u, Output out) throws IOException {
+                out.writeString(u.getId());
+                out.writeString(u.getUsername());
+                out.writeString(u.getPassword());
+                out.writeString(u.getRole());
+                out.writeString(u.getEmail());
+                out.writeBoolean(u.isActive());
+            }
+
+            public User read(Input in) throws IOException {
+                User u = new User();
+                u.setId(in.readString());
+                u.setUsername(in.readString());
+                u.setPassword(in.readString());
+                u.setRole(in.readString());
+                u.setEmail(in.readString());
+                u.setActive(in.readBoolean());
+                return u;
+            }
+        });
+        register(Employee.class, new RecordCodec<Employee>() {
+            public void write(Employee e, Output out) throws IOException {
+                out.writeString(e.getId());
+                out.writeString(e.getName());
+                out.writeString(e.getEmail());
+                out.writeString(e.getPhone());
+                out.writeString(e.getEmployeeType());
+                out.writeString(e.getUserId());
+                out.writeString(e.getDepartment());
+                out.writeDouble(e.getSalary());
+                out.writeBoolean(e.isActive());
+            }
+
+            public Employee read(Input in) throws IOException {
+                Employee e = new Employee();
+                e.setId(in.readString());
+                e.setName(in.readString());
+                e.setEmail(in.readString());
+                e.setPhone(in.readString());
+                e.setEmployeeType(in.readString());
+                e.setUserId(in.readId());
+                e.setDepartment(in.readString());
+                e.setSalary(in.readDouble());
+                e.setActive(in.readBoolean());
+                return e;
+            }
+        });
+        register(Task.class, new RecordCodec<Task>() {
+            public void write(Task t, Output out) throws IOException {
+                out.writeString(t.getCode());
+                out.writeString(t.getTitle());
+                out.writeString(t.getDescription());
+                out.writeString(t.getAssignedEmployeeId());
+                out.writeCode(t.getTaskPhase());
+                out.writeString(t.getProjectId());
+                out.writeCode(t.getPriority());
+                out.writeString(t.getCreatorId());
+                out.writeDateTime(t.getStartDate());
+                out.writeDateTime(t.getEndDate());
+                out.writeDouble(t.getEstimationHours());
+                out.writeDouble(t.getActualHours());
+            }
+
+            public Task read(Input in) throws IOException {
+                Task t = new Task();
+                t.setCode(in.readString());
+                t.setTitle(in.readString());
+                t.setDescription(in.readString());
+                t.setAssignedEmployeeId(in.readId());
+                t.setTaskPhase(TaskPhase.fromCode(in.readByte()));
+                t.setProjectId(in.readId());
+                t.setPriority(Priority.fromCode(in.readByte()));
+                t.setCreatorId(in.readId());
+                t.setStartDate(in.readDateTime());
+                t.setEndDate(in.readDateTime());
+                t.setEstimationHours(in.readDouble());
+                t.setActualHours(in.readDouble());
+                return t;
+            }
+        });
+        register(Project.class, new RecordCodec<Project>() {
+            public void write(Project p, Output out) throws IOException {
+                out.writeString(p.getId());
+                out.writeString(p.getName());
+                out.writeString(p.getDescription());
+                out.writeString(p.getCustomerName());
+                out.writeDateTime(p.getStartDate());
+                out.writeDateTime(p.getEndDate());
+                out.writeString(p.getStatus());
+                out.writeBoolean(p.isActive());
+            }
+
+            public Project read(Input in) throws IOException {
+                Project p = new Project();
+                p.setId(in.readString());
+                p.setName(in.readString());
+                p.setDescription(in.readString());
+                p.setCustomerName(in.readString());
+                p.setStartDate(in.readDateTime());
+                p.setEndDate(in.readDateTime());
+                p.setStatus(in.readString());
+                p.setActive(in.readBoolean());
+                return p;
+            }
+        });
+        register(TaskLog.class, new RecordCodec<TaskLog>() {
+            public void write(TaskLog l, Output out) throws IOException {
+                out.writeString(l.getId());
+                out.writeString(l.getTaskCode());
+                out.writeString(l.getEmployeeId());
+                out.writeDateTime(l.getFromTime());
+                out.writeDateTime(l.getToTime());
+                out.writeDouble(l.getHoursSpent());
+                out.writeString(l.getNotes());
+            }
+
+            public TaskLog read(Input in) throws IOException {
+                TaskLog l = new TaskLog();
+                l.setId(in.readString());
+                l.setTaskCode(in.readId());
+                l.setEmployeeId(in.readId());
+                l.setFromTime(in.readDateTime());
+                l.setToTime(in.readDateTime());
+                l.setHoursSpent(in.readDouble());
+                l.setNotes(in.readString());
+                return l;
+            }
+        });
+        register(Timecard.class, new RecordCodec<Timecard>() {
+            public void write(Timecard t, Output out) throws IOException {
+                out.writeString(t.getId());
+                out.writeString(t.getEmployeeId());
+                out.writeDateTime(t.getArrivalTime());
+                out.writeDateTime(t.getDepartureTime());
+                out.writeString(t.getNotes());
+            }
+
+            public Timecard read(Input in) throws IOException {
+                Timecard t = new Timecard();
+                t.setId(in.readString());
+                t.setEmployeeId(in.readId());
+                t.setArrivalTime(in.readDateTime());
+                t.setDepartureTime(in.readDateTime());
+                t.setNotes(in.readString());
+                return t;
+            }
+        });
+        register(LeaveRequest.class, new RecordCodec<LeaveRequest>() {
+            public void write(LeaveRequest r, Output out) throws IOException {
+                out.writeString(r.getId());
+                out.writeString(r.getEmployeeId());
+                out.writeString(r.getLeaveType());
+                out.writeDate(r.getStartDate());
+                out.writeDate(r.getEndDate());
+                out.writeString(r.getReason());
+                out.writeString(r.getStatus());
+                out.writeString(r.getReviewedBy());
+                out.writeString(r.getReviewNotes());
+            }
+
+            public LeaveRequest read(Input in) throws IOException {
+                LeaveRequest r = new LeaveRequest();
+                r.setId(in.readString());
+                r.setEmployeeId(in.readId());
+                r.setLeaveType(in.readString());
+                r.setStartDate(in.readDate());
+                r.setEndDate(in.readDate());
+                r.setReason(in.readString());
+                r.setStatus(in.readString());
+                r.setReviewedBy(in.readId());
+                r.setReviewNotes(in.readString());
+                return r;
+            }
+        });
+        register(MissionRequest.class, new RecordCodec<MissionRequest>() {
+            public void write(MissionRequest r, Output out) throws IOException {
+                out.writeString(r.getId());
+                out.writeString(r.getEmployeeId());
+                out.writeString(r.getType());
+                out.writeDateTime(r.getStartTime());
+                out.writeDateTime(r.getEndTime());
+                out.writeString(r.getDestination());
+                out.writeString(r.getPurpose());
+                out.writeString(r.getStatus());
+                out.writeString(r.getReviewedBy());
+                out.writeString(r.getReviewNotes());
+            }
+
+            public MissionRequest read(Input in) throws IOException {
+                MissionRequest r = new MissionRequest();
+                r.setId(in.readString());
+                r.setEmployeeId(in.readId());
+                r.setType(in.readString());
+                r.setStartTime(in.readDateTime());
+                r.setEndTime(in.readDateTime());
+                r.setDestination(in.readString());
+                r.setPurpose(in.readString());
+                r.setStatus(in.readString());
+                r.setReviewedBy(in.readId());
+                r.setReviewNotes(in.readString());
+                return r;
+            }
+        });
+    }
+
+    private BinarySnapshot() {
+    }
+
+    private static <T> void register(Class<T> type, RecordCodec<T> codec) {
+        CODECS.put(type, codec);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RecordCodec<T> codecFor(Class<T> type) {
+        return (RecordCodec<T>) CODECS.get(type);
+    }
+
+    public static boolean supports(Class<?> type) {
+        return CODECS.containsKey(type);
+    }
+
+    /**
+     * Returns the binary file that shadows the given JSON snapshot.
+     */
+    public static File fileFor(File jsonFile) {
+        String name = jsonFile.getName();
+        String baseName = name.endsWith(".json") ? name.substring(0, name.length() - 5) : name;
+        return new File(jsonFile.getParentFile(), baseName + ".bin");
+    }
+
+    /**
+     * True when a binary copy exists and was generated from the JSON file with the given stamp.
+     */
+    public static boolean isCurrent(File jsonFile, long stamp) {
+        File binFile = fileFor(jsonFile);
+        if (!binFile.exists() || !jsonFile.exists()) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(binFile))) {
+            return in.readInt() == MAGIC
+                    && in.readInt() == VERSION
+                    && in.readLong() == stamp;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the binary copy of a JSON snapshot that has just been written or read, with its stamp.
+     */
+    public static <T> void write(File jsonFile, long stamp, Class<T> type, List<T> records) throws IOException {
+        RecordCodec<T> codec = codecFor(type);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(records.size() * 64 + 16);
+        Output out = new Output(new DataOutputStream(body));
+        for (T record : records) {
+            codec.write(record, out);
+        }
+        out.data.flush();
+
+        File binFile = fileFor(jsonFile);
+        File tmpFile = new File(binFile.getPath() + ".tmp");
+        try (DataOutputStream file = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmpFile), BUFFER_SIZE))) {
+            file.writeInt(MAGIC);
+            file.writeInt(VERSION);
+            file.writeLong(stamp);
+            file.writeInt(out.table.size());
+            for (String s : out.table) {
+                byte[] bytes = s.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                writeVarInt(file, bytes.length);
+                file.write(bytes);
+            }
+            file.writeInt(records.size());
+            body.writeTo(file);
+        }
+        FileManager.moveIntoPlace(tmpFile.toPath(), binFile.toPath());
+    }
+
+    /**
+     * Reads the binary copy record by record.
+     */
+    public static <T> void forEach(File jsonFile, Class<T> type, Consumer<T> action) throws IOException {
+        RecordCodec<T> codec = codecFor(type);
+        try (DataInputStream data = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(fileFor(jsonFile)), BUFFER_SIZE))) {
+            if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+                throw new IOException("Not a binary snapshot: " + fileFor(jsonFile));
+            }
+            data.readLong();
+            String[] table = new String[data.readInt() + 1];
+            byte[] buffer = new byte[256];
+            for (int i = 1; i < table.length; i++) {
+                int length = readVarInt(data);
+                if (buffer.length < length) {
+                    buffer = new byte[length];
+                }
+                data.readFully(buffer, 0, length);
+                table[i] = new String(buffer, 0, length, java.nio.charset.StandardCharsets.UTF_8);
+            }
+            Input in = new Input(data, table);
+            int count = data.readInt();
+            for (int i = 0; i < count; i++) {
+                action.accept(codec.read(in));
+            }
+        }
+    }
+
+    public static <T> List<T> read(File jsonFile, Class<T> type) throws IOException {
+        List<T> records = new ArrayList<>();
+        forEach(jsonFile, type, records::add);
+        return records;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Field writer handed to codecs. Strings are replaced by string-table indexes (0 = null).
+     */
+    public static final class Output {
+        private final DataOutputStream data;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> table = new ArrayList<>();
+
+        private Output(DataOutputStream data) {
+            this.data = data;
+        }
+
+        public void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(data, 0);
+                return;
+            }
+            Integer index = indexes.get(value);
+            if (index == null) {
+                table.add(value);
+                index = table.size();
+                indexes.put(value, index);
+            }
+            writeVarInt(data, index);
+        }
+
+        public void writeDateTime(LocalDateTime value) throws IOException {
+            if (value == null) {
+                data.writeLong(NULL_TIME);
+                return;
+            }
+            data.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(data, value.getNano());
+        }
+
+        public void writeDate(LocalDate value) throws IOException {
+            data.writeLong(value != null ? value.toEpochDay() : NULL_TIME);
+        }
+
+        public void writeDouble(double value) throws IOException {
+            data.writeDouble(value);
+        }
+
+        public void writeBoolean(boolean value) throws IOException {
+            data.writeBoolean(value);
+        }
+
+        public void writeByte(int value) throws IOException {
+            data.writeByte(value);
+        }
+
+        /**
+         * Writes an enum as its one-byte code; 0 stands for null.
+         */
+        public void writeCode(CodedEnum value) throws IOException {
+            data.writeByte(value != null ? value.getCode() : 0);
+        }
+    }
+
+    /**
+     * Field reader handed to codecs.
+     */
+    public static final class Input {
+        private final DataInputStream data;
+        private final String[] table;
+        private final String[] internedTable;
+
+        private Input(DataInputStream data, String[] table) {
+            this.data = data;
+            this.table = table;
+            this.internedTable = new String[table.length];
+        }
+
+        public String readString() throws IOException {
+            return table[readVarInt(data)];
+        }
+
+        /**
+         * Reads a string that references another record's id, shared through the {@link IdDictionary}.
+         */
+        public String readId() throws IOException {
+            int index = readVarInt(data);
+            String id = internedTable[index];
+            if (id == null && table[index] != null) {
+                id = IdDictionary.intern(table[index]);
+                internedTable[index] = id;
+            }
+            return id;
+        }
+
+        public LocalDateTime readDateTime() throws IOException {
+            long seconds = data.readLong();
+            if (seconds == NULL_TIME) {
+                return null;
+            }
+            return LocalDateTime.ofEpochSecond(seconds, readVarInt(data), ZoneOffset.UTC);
+        }
+
+        public LocalDate readDate() throws IOException {
+            long days = data.readLong();
+            return days != NULL_TIME ? LocalDate.ofEpochDay(days) : null;
+        }
+
+        public double readDouble() throws IOException {
+            return data.readDouble();
+        }
+
+        public boolean readBoolean() throws IOException {
+            return data.readBoolean();
+        }
+
+        public int readByte() throws IOException {
+            return data.readByte();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.util;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.taskmanagement.model.CodedEnum;
+
+import java.io.IOException;
+
+/**
+ * Stores a {@link CodedEnum} as its numeric code.
+ * Older files hold names ("UNDER_WORK") or display labels ("Under Work"); both are still read.
+ */
+public class CodedEnumAdapter<E extends Enum<E> & CodedEnum> extends TypeAdapter<E> {
+    private final Class<E> type;
+
+    public CodedEnumAdapter(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public void write(JsonWriter out, E value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.getCode());
+        }
+    }
+
+    @Override
+    public E read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        // nextString also returns numbers as text, so codes are matched by fromValue too
+        String text = in.nextString();
+        E value = CodedEnum.fromValue(type.getEnumConstants(), text);
+        if (value == null && !text.trim().isEmpty()) {
+            // Keep loading the rest of the file; the field is left empty
+            System.err.println("Unknown " + type.getSimpleName() + " value: " + text);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,263 @@
+package com.taskmanagement.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Append-only journal for one entity file.
+ * Each insert/update/delete is written as a single compact JSON line next to the
+ * snapshot (e.g. tasklogs.json -> tasklogs.journal). Loading replays the journal
+ * over the snapshot; compaction folds it back into the snapshot.
+ */
+public class EntityJournal<T> {
+    static final String OP_PUT = "P";
+    static final String OP_DELETE = "D";
+
+    private final String snapshotFile;
+    private final Class<T> type;
+    private final Function<T, String> keyExtractor;
+    private final File journalFile;
+    private final File stampFile;
+    private int recordCount = -1;
+
+    public EntityJournal(String dataDir, String snapshotFile, Class<T> type, Function<T, String> keyExtractor) {
+        this.snapshotFile = snapshotFile;
+        this.type = type;
+        this.keyExtractor = keyExtractor;
+        String baseName = snapshotFile.endsWith(".json")
+                ? snapshotFile.substring(0, snapshotFile.length() - 5)
+                : snapshotFile;
+        this.journalFile = new File(dataDir, baseName + ".journal");
+        this.stampFile = new File(dataDir, baseName + ".stamp");
+    }
+
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String keyOf(T record) {
+        return keyExtractor.apply(record);
+    }
+
+    public File getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * File holding the stamp of the current snapshot (see {@link FileManager#stampOf}).
+     */
+    public File getStampFile() {
+        return stampFile;
+    }
+
+    /**
+     * Appends put records for the given entities. Existing keys are replaced on replay.
+     * A record without a key is rejected before anything is written.
+     */
+    synchronized void appendPuts(Gson gson, List<T> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (T record : records) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("o", OP_PUT);
+            entry.addProperty("k", requireKey(keyOf(record)));
+            entry.add("v", gson.toJsonTree(record, type));
+            lines.append(gson.toJson(entry)).append('\n');
+        }
+        append(lines.toString(), records.size());
+    }
+
+    /**
+     * Appends delete records for the given keys. A null key is rejected before anything is written.
+     */
+    synchronized void appendDeletes(Gson gson, List<String> keys) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (String key : keys) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("o", OP_DELETE);
+            entry.addProperty("k", requireKey(key));
+            lines.append(gson.toJson(entry)).append('\n');
+        }
+        append(lines.toString(), keys.size());
+    }
+
+    private String requireKey(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Record without a key for " + snapshotFile);
+        }
+        return key;
+    }
+
+    /**
+     * Appends whole lines and forces them to disk. A torn last line left by a crash mid-append is
+     * cut off first, so the new lines never run on from it.
+     */
+    private void append(String lines, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = endOfLastLine(channel);
+            if (end < channel.size()) {
+                System.err.println("Discarding torn last line of " + journalFile);
+                channel.truncate(end);
+                // The torn line was counted as a record; count again when next asked
+                recordCount = -1;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            channel.position(end);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        if (recordCount >= 0) {
+            recordCount += count;
+        }
+    }
+
+    /**
+     * Returns the position just after the last newline of the file, or 0 if it has none.
+     */
+    private static long endOfLastLine(FileChannel channel) throws IOException {
+        long position = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        while (position > 0) {
+            int length = (int) Math.min(buffer.capacity(), position);
+            position -= length;
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                // Keep reading until the block is full
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Replays the journal on top of the given key -> entity map, in write order.
+     */
+    synchronized void replay(Gson gson, Map<String, T> records) {
+        forEachEntry(gson, (key, record) -> {
+            if (record == null) {
+                records.remove(key);
+            } else {
+                records.put(key, record);
+            }
+        });
+    }
+
+    /**
+     * Returns the latest journaled state of every changed key; deleted keys map to null.
+     */
+    synchronized Map<String, T> readChanges(Gson gson) {
+        Map<String, T> changes = new LinkedHashMap<>();
+        forEachEntry(gson, changes::put);
+        return changes;
+    }
+
+    /**
+     * Returns every journal entry in write order; deletions have a null record.
+     */
+    synchronized List<Map.Entry<String, T>> readEntries(Gson gson) {
+        List<Map.Entry<String, T>> entries = new ArrayList<>();
+        forEachEntry(gson, (key, record) -> entries.add(new AbstractMap.SimpleImmutableEntry<>(key, record)));
+        return entries;
+    }
+
+    /**
+     * Reads journal entries in write order, passing null as the record for deletions.
+     * A line that can't be read, such as a torn last line after a crash mid-append, is skipped.
+     */
+    private void forEachEntry(Gson gson, BiConsumer<String, T> action) {
+        if (!journalFile.exists()) {
+            recordCount = 0;
+            return;
+        }
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String key;
+                T record;
+                try {
+                    JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                    // Keys are written as strings; anything else, such as null, makes the line unreadable
+                    if (!entry.has("k") || !entry.get("k").isJsonPrimitive() || !entry.get("k").getAsJsonPrimitive().isString()) {
+                        throw new JsonParseException("no key");
+                    }
+                    key = entry.get("k").getAsString();
+                    record = OP_DELETE.equals(entry.get("o").getAsString()) ? null : gson.fromJson(entry.get("v"), type);
+                } catch (JsonParseException | IllegalStateException | UnsupportedOperationException
+                         | NullPointerException e) {
+                    System.err.println("Skipping unreadable line " + lineNumber + " of " + journalFile + ": " + e);
+                    continue;
+                }
+                action.accept(key, record);
+                count++;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        recordCount = count;
+    }
+
+    /**
+     * Number of records currently in the journal.
+     */
+    synchronized int getRecordCount() {
+        if (recordCount < 0) {
+            recordCount = 0;
+            if (journalFile.exists()) {
+                try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                    while (reader.readLine() != null) {
+                        recordCount++;
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return recordCount;
+    }
+
+    /**
+     * Discards the journal once its records are part of the snapshot.
+     */
+    synchronized void reset() {
+        try {
+            Files.deleteIfExists(journalFile.toPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        recordCount = 0;
+    }
+}
@@ -3,128 +3,949 @@ package com.taskmanagement.util;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.taskmanagement.model.*;
 
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class FileManager {
     private static final String DATA_DIR = "data";
-    private static final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-            .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
-            .setPrettyPrinting()
-            .create();
+    private static final boolean JOURNAL_ENABLED = AppConfig.getBoolean("storage.journal", true);
+    private static final int COMPACTION_THRESHOLD = AppConfig.getInt("storage.journal.compactionThreshold", 1000);
+    private static final boolean BINARY_SNAPSHOTS = AppConfig.getBoolean("storage.binarySnapshot", false);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_READ_ATTEMPTS = 3;
 
-    static {
-        // Create data directory if it doesn't exist
-        File dir = new File(DATA_DIR);
-        if (!dir.exists()) {
-            dir.mkdirs();
+    // Bumped after every committed change to a file, so readers and caches can detect updates
+    private static final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    // Bumped when a change is queued and again when it is written, per file and per partition directory
+    private static final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public static final EntityJournal<User> USERS =
+            new EntityJournal<>(DATA_DIR, "users.json", User.class, User::getId);
+    public static final EntityJournal<Employee> EMPLOYEES =
+            new EntityJournal<>(DATA_DIR, "employees.json", Employee.class, Employee::getId);
+    public static final EntityJournal<Task> TASKS =
+            new EntityJournal<>(DATA_DIR, "tasks.json", Task.class, Task::getCode);
+    public static final EntityJournal<Project> PROJECTS =
+            new EntityJournal<>(DATA_DIR, "projects.json", Project.class, Project::getId);
+    // Time-series files, one per month (e.g. tasklogs/2026-10.json)
+    public static final PartitionedStore<TaskLog> TASK_LOGS =
+            new PartitionedStore<>(DATA_DIR, "tasklogs", TaskLog.class, TaskLog::getId, TaskLog::getFromTime);
+    // Timecards, one directory per employee (see timecardsOf); its own months are the layout of older versions
+    public static final PartitionedStore<Timecard> TIMECARDS =
+            new PartitionedStore<>(DATA_DIR, "timecards", Timecard.class, Timecard::getId, Timecard::getArrivalTime);
+    private static final Map<String, PartitionedStore<Timecard>> employeeTimecards = new ConcurrentHashMap<>();
+    private static volatile boolean timecardsSplit;
+    // Requests, split into pending and decided files (e.g. leaverequests/pending.json)
+    public static final RequestStore<LeaveRequest> LEAVE_REQUESTS = new RequestStore<>(DATA_DIR, "leaverequests",
+            LeaveRequest.class, LeaveRequest::getId, LeaveRequest::getStatus);
+    public static final RequestStore<MissionRequest> MISSION_REQUESTS = new RequestStore<>(DATA_DIR, "missionrequests",
+            MissionRequest.class, MissionRequest::getId, MissionRequest::getStatus);
+
+    private static volatile boolean dataDirChecked;
+
+    /**
+     * Gson instances, built on first use so loading FileManager stays cheap at startup.
+     */
+    private static class Json {
+        static final Gson PRETTY = gsonBuilder().setPrettyPrinting().create();
+        // Journal records are one line each, so they are written without pretty printing
+        static final Gson COMPACT = gsonBuilder().create();
+    }
+
+    /**
+     * Returns a Gson builder with the type adapters of the data files, e.g. for tools and benchmarks
+     * that read or write them the way FileManager does.
+     */
+    public static GsonBuilder gsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .registerTypeAdapter(TaskPhase.class, new CodedEnumAdapter<>(TaskPhase.class))
+                .registerTypeAdapter(Priority.class, new CodedEnumAdapter<>(Priority.class));
+    }
+
+    /**
+     * Creates the data directory if it doesn't exist and removes temp files left by an
+     * interrupted save. Runs once; writes that need the directory call it themselves.
+     */
+    public static void checkDataDir() {
+        if (dataDirChecked) {
+            return;
+        }
+        synchronized (FileManager.class) {
+            if (dataDirChecked) {
+                return;
+            }
+            File dir = new File(DATA_DIR);
+            if (!dir.exists()) {
+                dir.mkdirs();
+            }
+            deleteLeftoverTempFiles(dir.toPath());
+            dataDirChecked = true;
         }
     }
 
-    // Generic method to save list to JSON file
+    /**
+     * Tells from the first bytes of the JSON snapshot whether it holds at least one record,
+     * without reading the rest. The journal is not looked at, so it may add or remove records.
+     */
+    public static boolean snapshotHasRecords(EntityJournal<?> journal) {
+        File file = new File(DATA_DIR + "/" + journal.getSnapshotFile());
+        if (!file.exists()) {
+            return false;
+        }
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                return false;
+            }
+            reader.beginArray();
+            return reader.hasNext();
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    // Generic method to save list to JSON file.
+    // The list is written to a temp file next to the target, forced to disk and then
+    // atomically renamed over the target, so a crash never leaves a truncated file behind.
     public static <T> void saveToFile(List<T> list, String filename) {
-        try (Writer writer = new FileWriter(DATA_DIR + "/" + filename)) {
-            gson.toJson(list, writer);
+        try {
+            writeToFile(list, filename);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Same as saveToFile, but a failed write is reported to the caller, e.g. so it can be retried.
+     */
+    public static <T> void writeToFile(List<T> list, String filename) throws IOException {
+        Path target = Paths.get(DATA_DIR, filename);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                Writer writer = new BufferedWriter(
+                        Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1), WRITE_BUFFER_SIZE);
+                Json.PRETTY.toJson(list, writer);
+                writer.flush();
+                channel.force(true);
+            }
+            moveIntoPlace(temp, target);
+            temp = null;
+            bumpGeneration(filename);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the target with the temp file, atomically where the file system supports it, and
+     * forces the directory entry to disk so the rename itself survives a crash.
+     */
+    static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Flushes a directory's entries to disk. Not every platform can open a directory (e.g. Windows,
+     * where the rename is already durable once it returns), so failing to is not an error.
+     */
+    private static void forceDirectory(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // The directory can't be opened or synced here
+        }
+    }
+
+    static void deleteLeftoverTempFiles(Path dir) {
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(dir, "*.tmp")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Returns the number of committed changes to a file during this run.
+     */
+    public static long getGeneration(String filename) {
+        AtomicLong generation = generations.get(filename);
+        return generation != null ? generation.get() : 0;
+    }
+
+    static void bumpGeneration(String filename) {
+        generations.computeIfAbsent(filename, f -> new AtomicLong()).incrementAndGet();
+        bumpVersion(filename);
+    }
+
+    /**
+     * Returns a number that changes whenever a file, or any file of a directory such as "tasklogs/",
+     * changes. Unlike the generation it also changes as soon as a write is queued, so a view can
+     * compare it with the value it last saw to decide whether to reload.
+     */
+    public static long getVersion(String fileOrDirectory) {
+        AtomicLong version = versions.get(fileOrDirectory);
+        return version != null ? version.get() : 0;
+    }
+
+    public static long getVersion(EntityJournal<?> journal) {
+        return getVersion(journal.getSnapshotFile());
+    }
+
+    public static long getVersion(PartitionedStore<?> store) {
+        return getVersion(store.getName() + "/");
+    }
+
+    public static long getVersion(RequestStore<?> store) {
+        return getVersion(store.getName() + "/");
+    }
+
+    static void bumpVersion(String filename) {
+        versions.computeIfAbsent(filename, f -> new AtomicLong()).incrementAndGet();
+        // Every enclosing directory, e.g. timecards/<employee>/ and timecards/
+        for (int slash = filename.lastIndexOf('/'); slash >= 0; slash = filename.lastIndexOf('/', slash - 1)) {
+            versions.computeIfAbsent(filename.substring(0, slash + 1), d -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
     // Generic method to load list from JSON file
     public static <T> List<T> loadFromFile(String filename, Type typeToken) {
+        PersistenceQueue.getInstance().flush();
+        return readJsonFile(filename, typeToken);
+    }
+
+    private static <T> List<T> readJsonFile(String filename, Type typeToken) {
         File file = new File(DATA_DIR + "/" + filename);
         if (!file.exists()) {
             return new ArrayList<>();
         }
 
-        try (Reader reader = new FileReader(file)) {
-            List<T> list = gson.fromJson(reader, typeToken);
-            return list != null ? list : new ArrayList<>();
+        // Saves replace the file by rename, so a reader always sees a complete file; if a save
+        // commits while we read, read again to return the latest generation.
+        for (int attempt = 1; ; attempt++) {
+            long generation = getGeneration(filename);
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                List<T> list = Json.PRETTY.fromJson(reader, typeToken);
+                if (generation != getGeneration(filename) && attempt < MAX_READ_ATTEMPTS) {
+                    continue;
+                }
+                return list != null ? list : new ArrayList<>();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * Streams the records of a JSON array file one at a time instead of materializing the list.
+     */
+    public static <T> void forEachInFile(String filename, Class<T> type, Consumer<T> action) {
+        File file = new File(DATA_DIR + "/" + filename);
+        if (!file.exists()) {
+            return;
+        }
+
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                return;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                T record = Json.PRETTY.fromJson(reader, type);
+                if (record != null) {
+                    action.accept(record);
+                }
+            }
+            reader.endArray();
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Journaled storage: snapshot JSON plus an append-only journal of changes
+
+    /**
+     * Loads the snapshot and replays the journal on top of it.
+     * Writes still queued in the PersistenceQueue are flushed first.
+     */
+    public static <T> List<T> loadJournaled(EntityJournal<T> journal) {
+        PersistenceQueue.getInstance().flush();
+        return readJournaled(journal);
+    }
+
+    private static <T> List<T> readJournaled(EntityJournal<T> journal) {
+        synchronized (journal) {
+            List<T> snapshot = loadSnapshot(journal);
+            if (!journal.getJournalFile().exists()) {
+                return snapshot;
+            }
+            Map<String, T> merged = new LinkedHashMap<>();
+            for (T record : snapshot) {
+                merged.put(journal.keyOf(record), record);
+            }
+            journal.replay(Json.COMPACT, merged);
+            return new ArrayList<>(merged.values());
+        }
+    }
+
+    /**
+     * Replaces the whole entity file and clears its journal.
+     */
+    public static <T> void saveJournaled(EntityJournal<T> journal, List<T> records) {
+        try {
+            writeJournaled(journal, records);
         } catch (IOException e) {
             e.printStackTrace();
-            return new ArrayList<>();
         }
     }
 
+    /**
+     * Same as saveJournaled, but a failed write is reported to the caller. The journal is only
+     * cleared once the snapshot holding its records is on disk.
+     */
+    private static <T> void writeJournaled(EntityJournal<T> journal, List<T> records) throws IOException {
+        synchronized (journal) {
+            // The old stamp goes first, so a crash before the new one is written never vouches for the new JSON
+            Path stampFile = journal.getStampFile().toPath();
+            if (Files.deleteIfExists(stampFile)) {
+                forceDirectory(stampFile.toAbsolutePath().getParent());
+            }
+            writeToFile(records, journal.getSnapshotFile());
+            long stamp = renewStamp(journal);
+            if (BINARY_SNAPSHOTS) {
+                writeBinarySnapshot(journal, stamp, records);
+            }
+            journal.reset();
+        }
+    }
+
+    /**
+     * Identifies the current contents of a journaled file without reading it: the stamp of its
+     * snapshot, renewed whenever the snapshot is replaced, and the length of its journal, which
+     * only grows until it is folded into a new snapshot. Data derived from the file, such as
+     * running totals, can record it and is current as long as it is unchanged.
+     * Files edited outside the app are not noticed; delete the .stamp file next to them afterwards.
+     */
+    public static String stampOf(EntityJournal<?> journal) {
+        synchronized (journal) {
+            return Long.toHexString(snapshotStamp(journal)) + ":" + journal.getJournalFile().length();
+        }
+    }
+
+    /**
+     * Returns the stamp of the snapshot, or 0 when there is no snapshot. A snapshot without one,
+     * written by an older version or by a save that did not finish, gets a new stamp.
+     */
+    private static long snapshotStamp(EntityJournal<?> journal) {
+        synchronized (journal) {
+            if (!dataPath(journal.getSnapshotFile()).toFile().exists()) {
+                return 0;
+            }
+            try {
+                return Long.parseUnsignedLong(
+                        new String(Files.readAllBytes(journal.getStampFile().toPath()), StandardCharsets.UTF_8).trim(), 16);
+            } catch (IOException | NumberFormatException e) {
+                try {
+                    return renewStamp(journal);
+                } catch (IOException renewFailed) {
+                    renewFailed.printStackTrace();
+                    // A fresh value every time: nothing derived from this snapshot counts as current
+                    return ThreadLocalRandom.current().nextLong() | 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives the snapshot a new random stamp, written durably next to it.
+     */
+    private static long renewStamp(EntityJournal<?> journal) throws IOException {
+        long stamp = ThreadLocalRandom.current().nextLong() | 1;
+        Path target = journal.getStampFile().toPath();
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(Long.toHexString(stamp).getBytes(StandardCharsets.UTF_8)));
+                channel.force(true);
+            }
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return stamp;
+    }
+
+    /**
+     * Loads the snapshot part of a journaled file, preferring an up-to-date binary copy.
+     * When binary snapshots are enabled and the copy is missing or stale, it is regenerated.
+     */
+    private static <T> List<T> loadSnapshot(EntityJournal<T> journal) {
+        File jsonFile = new File(DATA_DIR + "/" + journal.getSnapshotFile());
+        long stamp = snapshotStamp(journal);
+        if (BinarySnapshot.isCurrent(jsonFile, stamp)) {
+            try {
+                return BinarySnapshot.read(jsonFile, journal.getType());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        Type type = TypeToken.getParameterized(List.class, journal.getType()).getType();
+        List<T> records = readJsonFile(journal.getSnapshotFile(), type);
+        if (BINARY_SNAPSHOTS && jsonFile.exists()) {
+            writeBinarySnapshot(journal, stamp, records);
+        }
+        return records;
+    }
+
+    private static <T> void writeBinarySnapshot(EntityJournal<T> journal, long stamp, List<T> records) {
+        try {
+            BinarySnapshot.write(new File(DATA_DIR + "/" + journal.getSnapshotFile()), stamp, journal.getType(), records);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Rebuilds the binary copy of a snapshot from its JSON file.
+     */
+    public static <T> void regenerateBinarySnapshot(EntityJournal<T> journal) {
+        synchronized (journal) {
+            File jsonFile = new File(DATA_DIR + "/" + journal.getSnapshotFile());
+            if (jsonFile.exists()) {
+                Type type = TypeToken.getParameterized(List.class, journal.getType()).getType();
+                List<T> records = readJsonFile(journal.getSnapshotFile(), type);
+                writeBinarySnapshot(journal, snapshotStamp(journal), records);
+            }
+        }
+    }
+
+    /**
+     * Returns a deep copy of a record, made by serializing it the way it is stored.
+     */
+    static <T> T copyOf(EntityJournal<T> journal, T record) {
+        return Json.COMPACT.fromJson(Json.COMPACT.toJsonTree(record, journal.getType()), journal.getType());
+    }
+
+    /**
+     * Inserts or updates a single record without rewriting the whole file.
+     */
+    public static <T> void putRecord(EntityJournal<T> journal, T record) throws IOException {
+        putRecords(journal, Collections.singletonList(record));
+    }
+
+    /**
+     * Inserts or updates several records with a single journal append.
+     * Throws if the records could not be written, so the caller can keep them and retry.
+     */
+    public static <T> void putRecords(EntityJournal<T> journal, List<T> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        synchronized (journal) {
+            if (!JOURNAL_ENABLED) {
+                Map<String, T> merged = new LinkedHashMap<>();
+                for (T existing : readJournaled(journal)) {
+                    merged.put(journal.keyOf(existing), existing);
+                }
+                for (T record : records) {
+                    merged.put(journal.keyOf(record), record);
+                }
+                writeJournaled(journal, new ArrayList<>(merged.values()));
+                return;
+            }
+            checkDataDir();
+            journal.appendPuts(Json.COMPACT, records);
+            bumpGeneration(journal.getSnapshotFile());
+            compactIfNeeded(journal);
+        }
+    }
+
+    /**
+     * Deletes a single record by key without rewriting the whole file.
+     */
+    public static <T> void deleteRecord(EntityJournal<T> journal, String key) throws IOException {
+        deleteRecords(journal, Collections.singletonList(key));
+    }
+
+    /**
+     * Deletes several records with a single journal append.
+     * Throws if the deletions could not be written, so the caller can keep them and retry.
+     */
+    public static <T> void deleteRecords(EntityJournal<T> journal, List<String> keys) throws IOException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        synchronized (journal) {
+            if (!JOURNAL_ENABLED) {
+                List<T> records = readJournaled(journal);
+                records.removeIf(r -> keys.contains(journal.keyOf(r)));
+                writeJournaled(journal, records);
+                return;
+            }
+            checkDataDir();
+            journal.appendDeletes(Json.COMPACT, keys);
+            bumpGeneration(journal.getSnapshotFile());
+            compactIfNeeded(journal);
+        }
+    }
+
+    /**
+     * Folds the journal into the snapshot file.
+     */
+    public static <T> void compact(EntityJournal<T> journal) {
+        synchronized (journal) {
+            if (journal.getJournalFile().exists()) {
+                saveJournaled(journal, readJournaled(journal));
+            }
+        }
+    }
+
+    private static <T> void compactIfNeeded(EntityJournal<T> journal) {
+        if (journal.getRecordCount() >= COMPACTION_THRESHOLD) {
+            compact(journal);
+        }
+    }
+
+    /**
+     * Streams the current records of a journaled file, passing only those that match the filter.
+     * Peak memory is the journal plus the matching records, not the whole file.
+     */
+    public static <T> void forEachMatching(EntityJournal<T> journal, Predicate<T> filter, Consumer<T> action) {
+        PersistenceQueue.getInstance().flush();
+        Map<String, T> changes;
+        synchronized (journal) {
+            changes = journal.readChanges(Json.COMPACT);
+        }
+        Consumer<T> overlay = record -> {
+            String key = journal.keyOf(record);
+            if (changes.containsKey(key)) {
+                record = changes.remove(key);
+                if (record == null) {
+                    return;
+                }
+            }
+            if (filter.test(record)) {
+                action.accept(record);
+            }
+        };
+        File jsonFile = new File(DATA_DIR + "/" + journal.getSnapshotFile());
+        boolean streamed = false;
+        if (BinarySnapshot.isCurrent(jsonFile, snapshotStamp(journal))) {
+            try {
+                BinarySnapshot.forEach(jsonFile, journal.getType(), overlay);
+                streamed = true;
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (!streamed) {
+            forEachInFile(journal.getSnapshotFile(), journal.getType(), overlay);
+        }
+        for (T record : changes.values()) {
+            if (record != null && filter.test(record)) {
+                action.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Returns the journal entries of a file in write order; deletions have a null record.
+     */
+    static <T> List<Map.Entry<String, T>> readJournalEntries(EntityJournal<T> journal) {
+        PersistenceQueue.getInstance().flush();
+        synchronized (journal) {
+            return journal.readEntries(Json.COMPACT);
+        }
+    }
+
+    /**
+     * Returns the path of a file in the data directory.
+     */
+    public static Path dataPath(String filename) {
+        return Paths.get(DATA_DIR, filename);
+    }
+
+    /**
+     * Reads up to limit elements of a JSON array file, starting at the element that begins at the
+     * given byte offset and skipping the first skip elements from there.
+     */
+    static <T> List<T> readArrayRange(String filename, long offset, int skip, int limit, Class<T> type)
+            throws IOException {
+        List<T> records = new ArrayList<>(limit);
+        try (FileChannel channel = FileChannel.open(dataPath(filename), StandardOpenOption.READ)) {
+            channel.position(offset);
+            // Reopen the array at the element so the reader sees a well-formed document
+            InputStream in = new SequenceInputStream(new ByteArrayInputStream(new byte[] {'['}),
+                    Channels.newInputStream(channel));
+            JsonReader jsonReader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            jsonReader.beginArray();
+            for (int i = 0; i < skip && jsonReader.hasNext(); i++) {
+                jsonReader.skipValue();
+            }
+            while (records.size() < limit && jsonReader.hasNext()) {
+                records.add(Json.PRETTY.fromJson(jsonReader, type));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Loads only the records of a journaled file that match the filter.
+     */
+    public static <T> List<T> loadMatching(EntityJournal<T> journal, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        forEachMatching(journal, filter, result::add);
+        return result;
+    }
+
+    // Partitioned storage: one journaled file per month
+
+    /**
+     * Splits a single-file store from an older version into partitions: folds its journal into the
+     * snapshot, writes each record to its partition and renames the file to *.migrated.
+     * Partitions are merged by key, so a migration that was interrupted can simply run again.
+     */
+    static <T> void splitLegacyFile(EntityJournal<T> legacy, Function<T, EntityJournal<T>> partitionOf) {
+        File legacyFile = new File(DATA_DIR + "/" + legacy.getSnapshotFile());
+        if (!legacyFile.exists() && !legacy.getJournalFile().exists()) {
+            return;
+        }
+        compact(legacy);
+
+        Map<EntityJournal<T>, List<T>> byPartition = new LinkedHashMap<>();
+        for (T record : loadJournaled(legacy)) {
+            byPartition.computeIfAbsent(partitionOf.apply(record), p -> new ArrayList<>()).add(record);
+        }
+        for (Map.Entry<EntityJournal<T>, List<T>> entry : byPartition.entrySet()) {
+            Map<String, T> merged = new LinkedHashMap<>();
+            for (T record : loadJournaled(entry.getKey())) {
+                merged.put(entry.getKey().keyOf(record), record);
+            }
+            for (T record : entry.getValue()) {
+                merged.put(entry.getKey().keyOf(record), record);
+            }
+            saveJournaled(entry.getKey(), new ArrayList<>(merged.values()));
+        }
+
+        try {
+            moveIntoPlace(legacyFile.toPath(), new File(legacyFile.getPath() + ".migrated").toPath());
+            Files.deleteIfExists(BinarySnapshot.fileFor(legacyFile).toPath());
+            Files.deleteIfExists(legacy.getStampFile().toPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns the timecards of one employee, one file per month in a directory of their own
+     * (e.g. timecards/<employee>/2026-10.json), so reading them never touches other employees' files.
+     * Monthly files shared by all employees, from an older version, are split up on first use.
+     */
+    public static PartitionedStore<Timecard> timecardsOf(String employeeId) {
+        splitTimecardsByEmployee();
+        return timecardStore(directoryNameOf(employeeId));
+    }
+
+    /**
+     * Returns the timecard stores of every employee directory on disk.
+     */
+    private static List<PartitionedStore<Timecard>> employeeTimecardStores() {
+        splitTimecardsByEmployee();
+        List<PartitionedStore<Timecard>> stores = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dataPath(TIMECARDS.getName()), Files::isDirectory)) {
+            for (Path entry : entries) {
+                stores.add(timecardStore(entry.getFileName().toString()));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return stores;
+    }
+
+    private static PartitionedStore<Timecard> timecardStore(String directoryName) {
+        return employeeTimecards.computeIfAbsent(directoryName, name -> new PartitionedStore<>(DATA_DIR,
+                TIMECARDS.getName() + "/" + name, Timecard.class, Timecard::getId, Timecard::getArrivalTime));
+    }
+
+    /**
+     * Moves the records of the shared monthly timecard files into each employee's directory, once per run.
+     */
+    private static void splitTimecardsByEmployee() {
+        if (timecardsSplit) {
+            return;
+        }
+        synchronized (TIMECARDS) {
+            if (timecardsSplit) {
+                return;
+            }
+            // Set first: the split itself resolves employees' stores through timecardsOf
+            timecardsSplit = true;
+            for (EntityJournal<Timecard> month : TIMECARDS.partitions()) {
+                splitLegacyFile(month, timecard -> timecardsOf(timecard.getEmployeeId()).partitionOf(timecard));
+            }
+            try {
+                // Month list per employee kept by an older version; the directories replace it
+                Files.deleteIfExists(new File(DATA_DIR, TIMECARDS.getName() + "/employees.json").toPath());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Directory name for an id: letters, digits, '-' and '_' are kept, other characters are
+     * written as %XX per UTF-8 byte, so every id maps to a distinct, valid name.
+     */
+    private static String directoryNameOf(String id) {
+        if (id == null) {
+            return "%none";
+        }
+        StringBuilder name = new StringBuilder(id.length());
+        for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                name.append(c);
+            } else {
+                name.append('%').append(String.format("%02X", b & 0xFF));
+            }
+        }
+        return name.toString();
+    }
+
+    /**
+     * Loads the records of every partition, oldest month first.
+     */
+    public static <T> List<T> loadPartitioned(PartitionedStore<T> store) {
+        List<T> records = new ArrayList<>();
+        for (EntityJournal<T> partition : store.partitions()) {
+            records.addAll(loadJournaled(partition));
+        }
+        return records;
+    }
+
+    /**
+     * Replaces the whole store: each partition is rewritten with its records, and partitions
+     * that no longer have any are emptied.
+     */
+    public static <T> void savePartitioned(PartitionedStore<T> store, List<T> records) {
+        Map<EntityJournal<T>, List<T>> byPartition = new LinkedHashMap<>();
+        for (EntityJournal<T> partition : store.partitions()) {
+            byPartition.put(partition, new ArrayList<>());
+        }
+        for (T record : records) {
+            byPartition.computeIfAbsent(store.partitionOf(record), p -> new ArrayList<>()).add(record);
+        }
+        for (Map.Entry<EntityJournal<T>, List<T>> entry : byPartition.entrySet()) {
+            saveJournaled(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Streams the records of every partition that match the filter.
+     */
+    public static <T> void forEachMatching(PartitionedStore<T> store, Predicate<T> filter, Consumer<T> action) {
+        PersistenceQueue.getInstance().flush();
+        for (EntityJournal<T> partition : store.partitions()) {
+            forEachMatching(partition, filter, action);
+        }
+    }
+
+    /**
+     * Streams the records dated within [from, to] that match the filter.
+     * Only the partitions of the months in the range are read.
+     */
+    public static <T> void forEachInRange(PartitionedStore<T> store, LocalDate from, LocalDate to,
+                                          Predicate<T> filter, Consumer<T> action) {
+        PersistenceQueue.getInstance().flush();
+        for (EntityJournal<T> partition : store.partitionsBetween(from, to)) {
+            forEachMatching(partition, record -> store.isBetween(record, from, to) && filter.test(record), action);
+        }
+    }
+
+    /**
+     * Loads only the records of a partitioned store that match the filter.
+     */
+    public static <T> List<T> loadMatching(PartitionedStore<T> store, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        forEachMatching(store, filter, result::add);
+        return result;
+    }
+
+    /**
+     * Loads the records dated within [from, to], reading only the partitions of those months.
+     */
+    public static <T> List<T> loadInRange(PartitionedStore<T> store, LocalDate from, LocalDate to) {
+        List<T> result = new ArrayList<>();
+        forEachInRange(store, from, to, record -> true, result::add);
+        return result;
+    }
+
+    // Request storage: pending and decided files
+
+    /**
+     * Loads all requests, pending ones first.
+     */
+    public static <T> List<T> loadRequests(RequestStore<T> store) {
+        List<T> records = loadJournaled(store.getPending());
+        records.addAll(loadJournaled(store.getDecided()));
+        return records;
+    }
+
+    /**
+     * Replaces all requests, writing each to the file of its status.
+     */
+    public static <T> void saveRequests(RequestStore<T> store, List<T> records) {
+        List<T> pending = new ArrayList<>();
+        List<T> decided = new ArrayList<>();
+        for (T record : records) {
+            (store.isPending(record) ? pending : decided).add(record);
+        }
+        saveJournaled(store.getPending(), pending);
+        saveJournaled(store.getDecided(), decided);
+    }
+
+    /**
+     * Streams the pending and then the decided requests that match the filter.
+     */
+    public static <T> void forEachMatching(RequestStore<T> store, Predicate<T> filter, Consumer<T> action) {
+        forEachMatching(store.getPending(), filter, action);
+        forEachMatching(store.getDecided(), filter, action);
+    }
+
+    /**
+     * Loads only the requests that match the filter.
+     */
+    public static <T> List<T> loadMatching(RequestStore<T> store, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        forEachMatching(store, filter, result::add);
+        return result;
+    }
+
     // Specific methods for each entity type
     public static void saveUsers(List<User> users) {
-        saveToFile(users, "users.json");
+        saveJournaled(USERS, users);
     }
 
     public static List<User> loadUsers() {
-        Type type = new TypeToken<List<User>>(){}.getType();
-        return loadFromFile("users.json", type);
+        return loadJournaled(USERS);
     }
 
     public static void saveEmployees(List<Employee> employees) {
-        saveToFile(employees, "employees.json");
+        saveJournaled(EMPLOYEES, employees);
     }
 
     public static List<Employee> loadEmployees() {
-        Type type = new TypeToken<List<Employee>>(){}.getType();
-        return loadFromFile("employees.json", type);
+        return loadJournaled(EMPLOYEES);
     }
 
     public static void saveTasks(List<Task> tasks) {
-        saveToFile(tasks, "tasks.json");
+        saveJournaled(TASKS, tasks);
     }
 
     public static List<Task> loadTasks() {
-        Type type = new TypeToken<List<Task>>(){}.getType();
-        return loadFromFile("tasks.json", type);
+        return loadJournaled(TASKS);
     }
 
     public static void saveProjects(List<Project> projects) {
-        saveToFile(projects, "projects.json");
+        saveJournaled(PROJECTS, projects);
     }
 
     public static List<Project> loadProjects() {
-        Type type = new TypeToken<List<Project>>(){}.getType();
-        return loadFromFile("projects.json", type);
+        return loadJournaled(PROJECTS);
     }
 
     public static void saveTaskLogs(List<TaskLog> taskLogs) {
-        saveToFile(taskLogs, "tasklogs.json");
+        savePartitioned(TASK_LOGS, taskLogs);
     }
 
     public static List<TaskLog> loadTaskLogs() {
-        Type type = new TypeToken<List<TaskLog>>(){}.getType();
-        return loadFromFile("tasklogs.json", type);
+        return loadPartitioned(TASK_LOGS);
     }
 
     public static void saveTimecards(List<Timecard> timecards) {
-        saveToFile(timecards, "timecards.json");
+        Map<PartitionedStore<Timecard>, List<Timecard>> byEmployee = new LinkedHashMap<>();
+        for (PartitionedStore<Timecard> store : employeeTimecardStores()) {
+            byEmployee.put(store, new ArrayList<>());
+        }
+        for (Timecard timecard : timecards) {
+            byEmployee.computeIfAbsent(timecardsOf(timecard.getEmployeeId()), s -> new ArrayList<>()).add(timecard);
+        }
+        for (Map.Entry<PartitionedStore<Timecard>, List<Timecard>> entry : byEmployee.entrySet()) {
+            savePartitioned(entry.getKey(), entry.getValue());
+        }
     }
 
     public static List<Timecard> loadTimecards() {
-        Type type = new TypeToken<List<Timecard>>(){}.getType();
-        return loadFromFile("timecards.json", type);
+        List<Timecard> timecards = new ArrayList<>();
+        for (PartitionedStore<Timecard> store : employeeTimecardStores()) {
+            timecards.addAll(loadPartitioned(store));
+        }
+        return timecards;
     }
 
     public static void saveLeaveRequests(List<LeaveRequest> leaveRequests) {
-        saveToFile(leaveRequests, "leaverequests.json");
+        saveRequests(LEAVE_REQUESTS, leaveRequests);
     }
 
     public static List<LeaveRequest> loadLeaveRequests() {
-        Type type = new TypeToken<List<LeaveRequest>>(){}.getType();
-        return loadFromFile("leaverequests.json", type);
+        return loadRequests(LEAVE_REQUESTS);
     }
 
     public static void saveMissionRequests(List<MissionRequest> missionRequests) {
-        saveToFile(missionRequests, "missionrequests.json");
+        saveRequests(MISSION_REQUESTS, missionRequests);
     }
 
     public static List<MissionRequest> loadMissionRequests() {
-        Type type = new TypeToken<List<MissionRequest>>(){}.getType();
-        return loadFromFile("missionrequests.json", type);
+        return loadRequests(MISSION_REQUESTS);
     }
 }
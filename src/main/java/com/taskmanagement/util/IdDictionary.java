@@ -0,0 +1,58 @@
+package com.taskmanagement.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Dictionary of the ids that records use to reference each other (employee, project, task and user ids).
+ * Loaded records hold the one shared String for each distinct id instead of a copy per row.
+ * Ids are held weakly: once no loaded record references an id, it drops out of the dictionary,
+ * so it stays the size of the data in memory rather than of every id ever read.
+ */
+public final class IdDictionary {
+    // Keyed and valued by the same String, both weakly, so an entry never keeps its id alive
+    private static final Map<String, WeakReference<String>> ids = new WeakHashMap<>();
+    private static volatile boolean enabled = AppConfig.getBoolean("storage.internIds", true);
+
+    private IdDictionary() {
+    }
+
+    /**
+     * Returns the shared instance of the given id.
+     */
+    public static String intern(String id) {
+        if (id == null || !enabled) {
+            return id;
+        }
+        synchronized (ids) {
+            WeakReference<String> reference = ids.get(id);
+            String shared = reference != null ? reference.get() : null;
+            if (shared == null) {
+                ids.put(id, new WeakReference<>(id));
+                shared = id;
+            }
+            return shared;
+        }
+    }
+
+    /**
+     * Number of ids currently shared.
+     */
+    public static int size() {
+        synchronized (ids) {
+            return ids.size();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns interning on or off for records loaded from now on (used when measuring its effect).
+     */
+    public static void setEnabled(boolean enabled) {
+        IdDictionary.enabled = enabled;
+    }
+}
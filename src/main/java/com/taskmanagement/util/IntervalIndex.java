@@ -0,0 +1,100 @@
+package com.taskmanagement.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable index of items by closed interval [start, end], e.g. epoch days.
+ * Items are sorted by start and laid out as an implicit balanced tree in which every
+ * node stores the largest end in its subtree, so an overlap query costs O(log n + matches).
+ */
+public class IntervalIndex<T> {
+    private final Object[] items;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    public IntervalIndex(Collection<T> source, ToLongFunction<T> startFunction, ToLongFunction<T> endFunction) {
+        int size = source.size();
+        Object[] unsorted = source.toArray();
+        long[] unsortedStarts = new long[size];
+        long[] unsortedEnds = new long[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) unsorted[i];
+            unsortedStarts[i] = startFunction.applyAsLong(item);
+            unsortedEnds[i] = Math.max(unsortedStarts[i], endFunction.applyAsLong(item));
+            order[i] = i;
+        }
+        // Stable sort: items with the same start keep their original order
+        Arrays.sort(order, Comparator.comparingLong(i -> unsortedStarts[i]));
+
+        items = new Object[size];
+        starts = new long[size];
+        ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = unsorted[order[i]];
+            starts[i] = unsortedStarts[order[i]];
+            ends[i] = unsortedEnds[order[i]];
+        }
+        maxEnds = new long[size];
+        buildMaxEnds(0, size);
+    }
+
+    private long buildMaxEnds(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnds(low, mid), buildMaxEnds(mid + 1, high)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Passes every item whose interval overlaps [from, to] to the action, in order of start.
+     */
+    public void query(long from, long to, Consumer<T> action) {
+        query(0, items.length, from, to, action);
+    }
+
+    /**
+     * Returns every item whose interval overlaps [from, to], in order of start.
+     */
+    public List<T> query(long from, long to) {
+        List<T> result = new ArrayList<>();
+        query(from, to, result::add);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void query(int low, int high, long from, long to, Consumer<T> action) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEnds[mid] < from) {
+            // Nothing in this subtree ends late enough
+            return;
+        }
+        query(low, mid, from, to, action);
+        if (starts[mid] > to) {
+            // This node and everything to its right start too late
+            return;
+        }
+        if (ends[mid] >= from) {
+            action.accept((T) items[mid]);
+        }
+        query(mid + 1, high, from, to, action);
+    }
+}
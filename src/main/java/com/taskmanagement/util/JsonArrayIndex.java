@@ -0,0 +1,132 @@
+package com.taskmanagement.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Byte offsets into a file holding a JSON array of objects, found by scanning the raw bytes
+ * without parsing the records. The offset of every pageSize-th element is kept, so a page can
+ * be read by seeking straight to it. The scan also reports the positions of the records whose
+ * key field has one of the requested values.
+ */
+final class JsonArrayIndex {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Longer strings are never keys or ids, so only this much of each string is kept
+    private static final int MAX_CAPTURED = 256;
+
+    final int pageSize;
+    final long[] pageOffsets;
+    final int count;
+    final Map<String, Integer> keyPositions;
+
+    private JsonArrayIndex(int pageSize, long[] pageOffsets, int count, Map<String, Integer> keyPositions) {
+        this.pageSize = pageSize;
+        this.pageOffsets = pageOffsets;
+        this.count = count;
+        this.keyPositions = keyPositions;
+    }
+
+    static JsonArrayIndex empty(int pageSize) {
+        return new JsonArrayIndex(pageSize, new long[0], 0, new HashMap<>());
+    }
+
+    static JsonArrayIndex scan(Path file, int pageSize, String keyField, Set<String> keys) throws IOException {
+        byte[] keyFieldBytes = keyField.getBytes(StandardCharsets.UTF_8);
+        long[] offsets = new long[64];
+        int pages = 0;
+        int count = 0;
+        Map<String, Integer> keyPositions = new HashMap<>();
+
+        byte[] captured = new byte[MAX_CAPTURED];
+        int capturedLength = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean stringClosed = false;
+        boolean keyValueNext = false;
+        long position = 0;
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++, position++) {
+                    byte b = buffer[i];
+                    if (inString) {
+                        if (escaped) {
+                            escaped = false;
+                        } else if (b == '\\') {
+                            escaped = true;
+                        } else if (b == '"') {
+                            inString = false;
+                            stringClosed = depth == 2;
+                            continue;
+                        }
+                        if (depth == 2 && capturedLength < MAX_CAPTURED) {
+                            captured[capturedLength++] = b;
+                        }
+                        continue;
+                    }
+                    if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                        continue;
+                    }
+                    if (stringClosed) {
+                        // A record field's string just ended: it was a name if a colon follows
+                        stringClosed = false;
+                        if (b == ':') {
+                            keyValueNext = capturedLength == keyFieldBytes.length
+                                    && Arrays.equals(captured, 0, capturedLength, keyFieldBytes, 0, keyFieldBytes.length);
+                            continue;
+                        }
+                        if (keyValueNext) {
+                            String key = new String(captured, 0, capturedLength, StandardCharsets.UTF_8);
+                            if (keys.contains(key)) {
+                                keyPositions.put(key, count - 1);
+                            }
+                        }
+                        keyValueNext = false;
+                    }
+                    if (depth == 1 && b != ',' && b != ']') {
+                        if (count % pageSize == 0) {
+                            if (pages == offsets.length) {
+                                offsets = Arrays.copyOf(offsets, pages * 2);
+                            }
+                            offsets[pages++] = position;
+                        }
+                        count++;
+                    }
+                    switch (b) {
+                        case '{':
+                        case '[':
+                            depth++;
+                            break;
+                        case '}':
+                        case ']':
+                            depth--;
+                            keyValueNext = false;
+                            break;
+                        case ',':
+                            if (depth == 2) {
+                                keyValueNext = false;
+                            }
+                            break;
+                        case '"':
+                            inString = true;
+                            capturedLength = 0;
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+        }
+        return new JsonArrayIndex(pageSize, Arrays.copyOf(offsets, pages), count, keyPositions);
+    }
+}
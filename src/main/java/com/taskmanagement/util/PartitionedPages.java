@@ -0,0 +1,116 @@
+package com.taskmanagement.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the records of a partitioned store by position, a range at a time, without loading it.
+ * Positions run through the partitions oldest month first, each partition in the order a full
+ * load gives (see {@link RecordPages}), so only the months a range touches are read.
+ */
+public class PartitionedPages<T> {
+    private final PartitionedStore<T> store;
+    private final String keyField;
+    private final int pageSize;
+
+    // Guarded by this
+    private final List<String> months = new ArrayList<>();
+    private final Map<String, RecordPages<T>> pagesByMonth = new HashMap<>();
+
+    /**
+     * @param keyField name of the JSON field holding the record key (e.g. "id")
+     */
+    public PartitionedPages(PartitionedStore<T> store, String keyField, int pageSize) {
+        this.store = store;
+        this.keyField = keyField;
+        this.pageSize = pageSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Lists the partitions again and re-indexes those that changed since the last refresh.
+     * Scans the changed files, so call it off the FX thread.
+     *
+     * @return the position of the first record that may have changed, or the size if none did
+     */
+    public synchronized int refresh() {
+        List<String> previousMonths = new ArrayList<>(months);
+        months.clear();
+        int position = 0;
+        int firstChanged = -1;
+        for (EntityJournal<T> partition : store.partitions()) {
+            String month = store.monthOf(partition);
+            boolean changed = pagesFor(partition).refreshIfChanged()
+                    || months.size() >= previousMonths.size() || !previousMonths.get(months.size()).equals(month);
+            if (changed && firstChanged < 0) {
+                firstChanged = position;
+            }
+            months.add(month);
+            position += pagesByMonth.get(month).size();
+        }
+        return firstChanged >= 0 ? firstChanged : position;
+    }
+
+    /**
+     * Number of records, including those added with {@link #append}.
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (String month : months) {
+            size += pagesByMonth.get(month).size();
+        }
+        return size;
+    }
+
+    /**
+     * Adds a record that was queued for writing after the last refresh, at the end of its month.
+     * A record the partition has already read from its journal keeps its position.
+     *
+     * @return the position of the record
+     */
+    public synchronized int append(T record) {
+        EntityJournal<T> partition = store.partitionOf(record);
+        String month = store.monthOf(partition);
+        int slot = Collections.binarySearch(months, month);
+        if (slot < 0) {
+            slot = -slot - 1;
+            months.add(slot, month);
+        }
+        int position = 0;
+        for (int i = 0; i < slot; i++) {
+            position += pagesByMonth.get(months.get(i)).size();
+        }
+        return position + pagesFor(partition).append(record);
+    }
+
+    /**
+     * Returns the records at positions [from, to), in storage order.
+     */
+    public synchronized List<T> read(int from, int to) {
+        List<T> result = new ArrayList<>(Math.max(0, to - from));
+        int start = 0;
+        for (String month : months) {
+            if (start >= to) {
+                break;
+            }
+            RecordPages<T> pages = pagesByMonth.get(month);
+            int end = start + pages.size();
+            if (end > from) {
+                result.addAll(pages.read(Math.max(from, start) - start, Math.min(to, end) - start));
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    private RecordPages<T> pagesFor(EntityJournal<T> partition) {
+        return pagesByMonth.computeIfAbsent(store.monthOf(partition),
+                month -> new RecordPages<>(partition, keyField, pageSize));
+    }
+}
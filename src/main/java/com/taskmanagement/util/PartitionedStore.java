@@ -0,0 +1,234 @@
+package com.taskmanagement.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Time-series records split into one journaled file per month (e.g. timecards/2026-10.json).
+ * Each month is an ordinary {@link EntityJournal}, so writes only touch the month of the record
+ * and range queries only read the months they cover. Records without a date go to "undated".
+ * A single-file store from an older version (e.g. timecards.json) is split into months on first use.
+ */
+public class PartitionedStore<T> {
+    static final String UNDATED = "undated";
+    // Stamp of a partition with neither a snapshot nor a journal
+    private static final String EMPTY_STAMP = "0:0";
+
+    private final String dataDir;
+    private final String name;
+    private final Class<T> type;
+    private final Function<T, String> keyExtractor;
+    private final Function<T, LocalDateTime> timeExtractor;
+    private final Map<String, EntityJournal<T>> partitions = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * @param name directory name of the partitions and base name of the legacy single file
+     * @param timeExtractor the time that decides a record's month
+     */
+    public PartitionedStore(String dataDir, String name, Class<T> type, Function<T, String> keyExtractor,
+                            Function<T, LocalDateTime> timeExtractor) {
+        this.dataDir = dataDir;
+        this.name = name;
+        this.type = type;
+        this.keyExtractor = keyExtractor;
+        this.timeExtractor = timeExtractor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String keyOf(T record) {
+        return keyExtractor.apply(record);
+    }
+
+    /**
+     * Returns the partition a record belongs to, by the month of its time.
+     */
+    public EntityJournal<T> partitionOf(T record) {
+        ensureReady();
+        return journalFor(monthOf(record));
+    }
+
+    /**
+     * Returns the partition of one month, whether or not it has been written yet.
+     */
+    public EntityJournal<T> partitionOf(YearMonth month) {
+        return partition(month.toString());
+    }
+
+    /**
+     * True when the record falls within [from, to]; undated records never do.
+     */
+    public boolean isBetween(T record, LocalDate from, LocalDate to) {
+        LocalDateTime time = timeExtractor.apply(record);
+        if (time == null) {
+            return false;
+        }
+        LocalDate date = time.toLocalDate();
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    /**
+     * Returns the partitions that exist on disk, oldest month first and "undated" last.
+     */
+    public List<EntityJournal<T>> partitions() {
+        ensureReady();
+        TreeSet<String> keys = new TreeSet<>(partitions.keySet());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory().toPath())) {
+            for (Path file : files) {
+                String partitionKey = partitionKeyOfFile(file.getFileName().toString());
+                if (partitionKey != null) {
+                    keys.add(partitionKey);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        List<EntityJournal<T>> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            result.add(partition(key));
+        }
+        return result;
+    }
+
+    /**
+     * Identifies the records of every partition without reading them: the month and
+     * {@link FileManager#stampOf stamp} of each partition that has a file. Any write changes it, so
+     * e.g. a summary saved with it can tell whether the records changed since.
+     */
+    public String fingerprint() {
+        StringBuilder fingerprint = new StringBuilder();
+        for (EntityJournal<T> partition : partitions()) {
+            String stamp = FileManager.stampOf(partition);
+            if (stamp.equals(EMPTY_STAMP)) {
+                // Resolved during this run but never written
+                continue;
+            }
+            if (fingerprint.length() > 0) {
+                fingerprint.append(';');
+            }
+            fingerprint.append(monthOf(partition)).append('=').append(stamp);
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Returns the partitions that can hold records dated within [from, to], oldest first.
+     */
+    public List<EntityJournal<T>> partitionsBetween(LocalDate from, LocalDate to) {
+        String first = YearMonth.from(from).toString();
+        String last = YearMonth.from(to).toString();
+        List<EntityJournal<T>> result = new ArrayList<>();
+        for (EntityJournal<T> partition : partitions()) {
+            String key = monthOf(partition);
+            if (!UNDATED.equals(key) && key.compareTo(first) >= 0 && key.compareTo(last) <= 0) {
+                result.add(partition);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the month of a partition as "yyyy-MM", or "undated".
+     */
+    public String monthOf(EntityJournal<T> partition) {
+        String file = partition.getSnapshotFile();
+        return file.substring(name.length() + 1, file.length() - ".json".length());
+    }
+
+    /**
+     * Returns the month a record belongs to as "yyyy-MM", or "undated".
+     */
+    public String monthOf(T record) {
+        LocalDateTime time = timeExtractor.apply(record);
+        return time != null ? YearMonth.from(time).toString() : UNDATED;
+    }
+
+    /**
+     * Returns the partition of a month given as "yyyy-MM" (or "undated").
+     */
+    public EntityJournal<T> partition(String partitionKey) {
+        ensureReady();
+        return journalFor(partitionKey);
+    }
+
+    private EntityJournal<T> journalFor(String partitionKey) {
+        return partitions.computeIfAbsent(partitionKey,
+                key -> new EntityJournal<>(dataDir, name + "/" + key + ".json", type, keyExtractor));
+    }
+
+    private File directory() {
+        return new File(dataDir, name);
+    }
+
+    /**
+     * Maps a file in the partition directory to its partition key, or null for other files.
+     */
+    private static String partitionKeyOfFile(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String extension = fileName.substring(dot);
+        if (!extension.equals(".json") && !extension.equals(".journal")) {
+            return null;
+        }
+        String key = fileName.substring(0, dot);
+        if (UNDATED.equals(key)) {
+            return key;
+        }
+        try {
+            return YearMonth.parse(key).toString();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the partition directory and splits a legacy single file into months, once per run.
+     */
+    private void ensureReady() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (ready) {
+                return;
+            }
+            File dir = directory();
+            if (!dir.exists()) {
+                dir.mkdirs();
+            }
+            FileManager.deleteLeftoverTempFiles(dir.toPath());
+            migrateLegacyFile();
+            ready = true;
+        }
+    }
+
+    /**
+     * Splits the single file of an older version (e.g. timecards.json) into monthly partitions.
+     */
+    private void migrateLegacyFile() {
+        FileManager.splitLegacyFile(new EntityJournal<>(dataDir, name + ".json", type, keyExtractor),
+                record -> journalFor(monthOf(record)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.util;
+
+/**
+ * Strategy for hashing and verifying user passwords.
+ */
+public interface PasswordHasher {
+
+    String hash(String plainPassword);
+
+    boolean verify(String plainPassword, String hashedPassword);
+
+    /**
+     * True when the stored hash was produced with different settings than this hasher uses,
+     * so it should be replaced after the next successful verification.
+     */
+    boolean needsRehash(String hashedPassword);
+}
@@ -1,14 +1,35 @@
 package com.taskmanagement.util;
 
-import org.mindrot.jbcrypt.BCrypt;
-
 public class PasswordUtil {
-    
+    private static volatile PasswordHasher hasher = createDefaultHasher();
+
+    private static PasswordHasher createDefaultHasher() {
+        int cost = AppConfig.getInt("security.bcrypt.cost", BCryptPasswordHasher.DEFAULT_COST);
+        try {
+            return new BCryptPasswordHasher(cost);
+        } catch (IllegalArgumentException e) {
+            e.printStackTrace();
+            return new BCryptPasswordHasher(BCryptPasswordHasher.DEFAULT_COST);
+        }
+    }
+
+    public static PasswordHasher getHasher() {
+        return hasher;
+    }
+
+    public static void setHasher(PasswordHasher passwordHasher) {
+        hasher = passwordHasher;
+    }
+
     public static String hashPassword(String plainPassword) {
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt());
+        return hasher.hash(plainPassword);
     }
 
     public static boolean checkPassword(String plainPassword, String hashedPassword) {
-        return BCrypt.checkpw(plainPassword, hashedPassword);
+        return hasher.verify(plainPassword, hashedPassword);
+    }
+
+    public static boolean needsRehash(String hashedPassword) {
+        return hasher.needsRehash(hashedPassword);
     }
 }
@@ -0,0 +1,357 @@
+package com.taskmanagement.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Background writer that keeps file I/O off the JavaFX Application Thread.
+ * Changes are queued and written after a short delay. Several changes to the same
+ * record, or several full saves of the same file, within that window become one write,
+ * and all pending records of a journal are appended together.
+ * Writes that fail stay queued and are retried with a growing delay; the failure listener
+ * hears about the first failure of a run of them.
+ */
+public class PersistenceQueue {
+    private static final long WRITE_DELAY_MILLIS = AppConfig.getLong("storage.writeDelayMillis", 250);
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+    private static final Object DELETED = new Object();
+
+    private static PersistenceQueue instance;
+
+    private final ScheduledExecutorService executor;
+    private volatile Thread writerThread;
+    private volatile Consumer<Exception> failureListener;
+
+    // Guarded by this
+    private final Map<String, FileWrite> pendingFileWrites = new LinkedHashMap<>();
+    private final Map<String, FileWrite> pendingDerivedWrites = new LinkedHashMap<>();
+    private final Map<EntityJournal<?>, Map<String, Object>> pendingRecords = new LinkedHashMap<>();
+    private boolean drainScheduled;
+    private boolean draining;
+    // Number of drains in a row that failed to write something; 0 while writes succeed
+    private int failedDrains;
+
+    private PersistenceQueue() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "persistence-writer");
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "persistence-shutdown"));
+    }
+
+    public static synchronized PersistenceQueue getInstance() {
+        if (instance == null) {
+            instance = new PersistenceQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Queues an insert or update of one record. A copy is queued, so the caller may keep changing
+     * the record while the write waits. A record without a key is rejected here, since the journal
+     * could never write it.
+     */
+    public <T> void put(EntityJournal<T> journal, T record) {
+        T copy = FileManager.copyOf(journal, record);
+        String key = requireKey(journal, journal.keyOf(copy));
+        synchronized (this) {
+            pendingRecords.computeIfAbsent(journal, j -> new LinkedHashMap<>()).put(key, copy);
+            FileManager.bumpVersion(journal.getSnapshotFile());
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Queues the deletion of one record.
+     */
+    public synchronized <T> void delete(EntityJournal<T> journal, String key) {
+        requireKey(journal, key);
+        pendingRecords.computeIfAbsent(journal, j -> new LinkedHashMap<>()).put(key, DELETED);
+        FileManager.bumpVersion(journal.getSnapshotFile());
+        scheduleDrain();
+    }
+
+    private static String requireKey(EntityJournal<?> journal, String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Record without a key for " + journal.getSnapshotFile());
+        }
+        return key;
+    }
+
+    /**
+     * Queues an insert or update of one record in the partition of its month.
+     * The partition is resolved before taking the queue lock, since the first use of a store may migrate it.
+     */
+    public <T> void put(PartitionedStore<T> store, T record) {
+        put(store.partitionOf(record), record);
+    }
+
+    /**
+     * Queues the deletion of one record from the partition of its month.
+     */
+    public <T> void delete(PartitionedStore<T> store, T record) {
+        delete(store.partitionOf(record), store.keyOf(record));
+    }
+
+    /**
+     * Queues several changes at once, so they are all written by the same drain: one append per journal.
+     * Resolve the journals before calling this; the queue lock is held while the changes are queued.
+     */
+    public synchronized void batch(Runnable changes) {
+        changes.run();
+    }
+
+    /**
+     * Queues a full write of a file. A later write for the same file replaces this one.
+     * The write runs later on the writer thread, so it must not read state the caller keeps changing.
+     */
+    public synchronized void submit(String filename, FileWrite write) {
+        pendingFileWrites.remove(filename);
+        pendingFileWrites.put(filename, write);
+        FileManager.bumpVersion(filename);
+        scheduleDrain();
+    }
+
+    /**
+     * Queues a full write of a file computed from records, e.g. running totals. It runs after the
+     * records queued with it are written, and waits for the retry if any of them fail, so the file
+     * never gets ahead of the records on disk. A later write for the same file replaces this one.
+     */
+    public synchronized void submitDerived(String filename, FileWrite write) {
+        pendingDerivedWrites.remove(filename);
+        pendingDerivedWrites.put(filename, write);
+        FileManager.bumpVersion(filename);
+        scheduleDrain();
+    }
+
+    public synchronized boolean hasPendingWrites() {
+        return draining || !pendingFileWrites.isEmpty() || !pendingRecords.isEmpty() || !pendingDerivedWrites.isEmpty();
+    }
+
+    /**
+     * Sets the listener told when writes start failing, e.g. to warn the user that changes are not saved.
+     * It runs on the writer thread.
+     */
+    public void setFailureListener(Consumer<Exception> listener) {
+        failureListener = listener;
+    }
+
+    private void scheduleDrain() {
+        if (!drainScheduled && !executor.isShutdown()) {
+            drainScheduled = true;
+            long delay = failedDrains == 0 ? WRITE_DELAY_MILLIS
+                    : Math.min(MAX_RETRY_DELAY_MILLIS, WRITE_DELAY_MILLIS << Math.min(failedDrains, 16));
+            executor.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes everything queued so far. Runs on the writer thread only, so writes never overlap.
+     * Whatever fails to be written is queued again, behind any newer change to the same file or record.
+     */
+    private void drain() {
+        Map<String, FileWrite> fileWrites;
+        Map<EntityJournal<?>, Map<String, Object>> records;
+        Map<String, FileWrite> derivedWrites;
+        synchronized (this) {
+            drainScheduled = false;
+            draining = true;
+            fileWrites = new LinkedHashMap<>(pendingFileWrites);
+            records = new LinkedHashMap<>(pendingRecords);
+            derivedWrites = new LinkedHashMap<>(pendingDerivedWrites);
+            pendingFileWrites.clear();
+            pendingRecords.clear();
+            pendingDerivedWrites.clear();
+        }
+        // Full saves first: record changes queued alongside them are never older than the saved list
+        Map<String, FileWrite> failedWrites = new LinkedHashMap<>();
+        Exception failure = writeFiles(fileWrites, failedWrites);
+        // Puts of every journal go before any deletion, so a record moved between files is never missing
+        // from both; if a put fails, the deletions wait for the retry
+        Map<EntityJournal<?>, Map<String, Object>> failedRecords = new LinkedHashMap<>();
+        Exception putFailure = writeRecords(records, false, failedRecords);
+        failure = failure != null ? failure : putFailure;
+        if (putFailure == null) {
+            Exception deleteFailure = writeRecords(records, true, failedRecords);
+            failure = failure != null ? failure : deleteFailure;
+        } else {
+            for (Map.Entry<EntityJournal<?>, Map<String, Object>> entry : records.entrySet()) {
+                entry.getValue().forEach((key, value) -> {
+                    if (value == DELETED) {
+                        failedRecords.computeIfAbsent(entry.getKey(), j -> new LinkedHashMap<>()).put(key, value);
+                    }
+                });
+            }
+        }
+        Map<String, FileWrite> failedDerivedWrites = new LinkedHashMap<>();
+        if (failedRecords.isEmpty()) {
+            Exception derivedFailure = writeFiles(derivedWrites, failedDerivedWrites);
+            failure = failure != null ? failure : derivedFailure;
+        } else {
+            failedDerivedWrites.putAll(derivedWrites);
+        }
+        boolean firstFailure;
+        synchronized (this) {
+            draining = false;
+            requeue(failedWrites, failedRecords);
+            for (Map.Entry<String, FileWrite> write : failedDerivedWrites.entrySet()) {
+                pendingDerivedWrites.putIfAbsent(write.getKey(), write.getValue());
+            }
+            firstFailure = failure != null && failedDrains == 0;
+            failedDrains = failure != null ? failedDrains + 1 : 0;
+            if (failure != null) {
+                scheduleDrain();
+            }
+        }
+        Consumer<Exception> listener = failureListener;
+        if (firstFailure && listener != null) {
+            listener.accept(failure);
+        }
+    }
+
+    /**
+     * Runs full file writes; the ones that fail are added to failed. Returns the first failure, or null.
+     */
+    private static Exception writeFiles(Map<String, FileWrite> writes, Map<String, FileWrite> failed) {
+        Exception failure = null;
+        for (Map.Entry<String, FileWrite> write : writes.entrySet()) {
+            try {
+                write.getValue().write();
+            } catch (IOException | RuntimeException e) {
+                e.printStackTrace();
+                failed.put(write.getKey(), write.getValue());
+                failure = failure != null ? failure : e;
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * Puts failed writes back in the queue. Changes queued since the drain took them are newer and win.
+     */
+    private void requeue(Map<String, FileWrite> failedWrites, Map<EntityJournal<?>, Map<String, Object>> failedRecords) {
+        for (Map.Entry<String, FileWrite> write : failedWrites.entrySet()) {
+            pendingFileWrites.putIfAbsent(write.getKey(), write.getValue());
+        }
+        for (Map.Entry<EntityJournal<?>, Map<String, Object>> entry : failedRecords.entrySet()) {
+            Map<String, Object> pending = pendingRecords.computeIfAbsent(entry.getKey(), j -> new LinkedHashMap<>());
+            entry.getValue().forEach(pending::putIfAbsent);
+        }
+    }
+
+    /**
+     * Writes the puts or the deletions of every journal; the changes of a journal that fails are added
+     * to failed. Returns the first failure, or null.
+     */
+    private static Exception writeRecords(Map<EntityJournal<?>, Map<String, Object>> records, boolean deletions,
+                                          Map<EntityJournal<?>, Map<String, Object>> failed) {
+        Exception failure = null;
+        for (Map.Entry<EntityJournal<?>, Map<String, Object>> entry : records.entrySet()) {
+            try {
+                writeRecords(entry.getKey(), entry.getValue(), deletions);
+            } catch (IOException | RuntimeException e) {
+                e.printStackTrace();
+                Map<String, Object> failedChanges = failed.computeIfAbsent(entry.getKey(), j -> new LinkedHashMap<>());
+                entry.getValue().forEach((key, value) -> {
+                    if ((value == DELETED) == deletions) {
+                        failedChanges.put(key, value);
+                    }
+                });
+                failure = failure != null ? failure : e;
+            }
+        }
+        return failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeRecords(EntityJournal<T> journal, Map<String, Object> changes, boolean deletions)
+            throws IOException {
+        List<T> puts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            if (change.getValue() == DELETED) {
+                deletes.add(change.getKey());
+            } else {
+                puts.add((T) change.getValue());
+            }
+        }
+        if (deletions) {
+            FileManager.deleteRecords(journal, deletes);
+        } else {
+            FileManager.putRecords(journal, puts);
+        }
+    }
+
+    /**
+     * Writes all queued changes now and waits until they are on disk.
+     * Called before reading files directly, on shutdown and from tests.
+     */
+    public void flush() {
+        if (Thread.currentThread() == writerThread || !hasPendingWrites()) {
+            return;
+        }
+        try {
+            executor.submit(this::drain).get();
+        } catch (RejectedExecutionException e) {
+            // Writer already stopped: write on the calling thread instead
+            drain();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Waits up to the given time for queued writes to complete.
+     */
+    public boolean awaitFlush(long timeout, TimeUnit unit) {
+        if (Thread.currentThread() == writerThread || !hasPendingWrites()) {
+            return true;
+        }
+        try {
+            executor.submit(this::drain).get(timeout, unit);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Flushes pending writes and stops the writer thread.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (hasPendingWrites()) {
+            drain();
+        }
+    }
+
+    /**
+     * A full write of one file, e.g. FileManager.writeToFile of a list built when it was queued.
+     */
+    public interface FileWrite {
+        void write() throws IOException;
+    }
+}
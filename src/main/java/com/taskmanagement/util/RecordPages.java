@@ -0,0 +1,232 @@
+package com.taskmanagement.util;
+
+import com.google.gson.JsonParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the records of a journaled file by position, a range at a time, without loading the file.
+ * refresh() scans the snapshot once for the byte offset of every page and reads the journal;
+ * a range is then read by seeking to its page. Journaled updates replace their snapshot record,
+ * deletions are skipped and new records follow the snapshot, the same order a full load gives.
+ */
+public class RecordPages<T> {
+    private final EntityJournal<T> journal;
+    private final String keyField;
+    private final int pageSize;
+
+    // Guarded by this
+    private JsonArrayIndex index;
+    private long snapshotModified;
+    private long snapshotLength;
+    private int[] deletedPositions = new int[0];
+    private final Map<Integer, T> updates = new HashMap<>();
+    private final List<T> appended = new ArrayList<>();
+    // FileManager.getVersion of the journal as of the last refresh
+    private long refreshedVersion = -1;
+
+    /**
+     * @param keyField name of the JSON field holding the record key (e.g. "id")
+     */
+    public RecordPages(EntityJournal<T> journal, String keyField, int pageSize) {
+        this.journal = journal;
+        this.keyField = keyField;
+        this.pageSize = pageSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Re-reads the journal and re-indexes the snapshot. Scans the whole file, so call it off the FX thread.
+     */
+    public synchronized void refresh() {
+        refreshedVersion = FileManager.getVersion(journal);
+        for (int attempt = 1; ; attempt++) {
+            List<Map.Entry<String, T>> changes = FileManager.readJournalEntries(journal);
+            Set<String> changedKeys = new HashSet<>();
+            for (Map.Entry<String, T> change : changes) {
+                changedKeys.add(change.getKey());
+            }
+            File file = FileManager.dataPath(journal.getSnapshotFile()).toFile();
+            long modified = file.lastModified();
+            long length = file.length();
+            JsonArrayIndex scanned = JsonArrayIndex.empty(pageSize);
+            if (file.exists()) {
+                try {
+                    scanned = JsonArrayIndex.scan(file.toPath(), pageSize, keyField, changedKeys);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            // A compaction replaced the file during the scan: the journal read above may not match it
+            if ((file.lastModified() != modified || file.length() != length) && attempt < 3) {
+                continue;
+            }
+            apply(scanned, changes, modified, length);
+            return;
+        }
+    }
+
+    /**
+     * Refreshes only if the journal was changed or queued for a change since the last refresh.
+     *
+     * @return true if it was refreshed
+     */
+    public synchronized boolean refreshIfChanged() {
+        if (index != null && refreshedVersion == FileManager.getVersion(journal)) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+
+    /**
+     * Replays the journal the way a full load does: an update keeps a record in its snapshot place,
+     * a deletion removes it, and a new (or deleted and re-added) key goes to the end.
+     */
+    private void apply(JsonArrayIndex scanned, List<Map.Entry<String, T>> changes, long modified, long length) {
+        index = scanned;
+        snapshotModified = modified;
+        snapshotLength = length;
+        updates.clear();
+        appended.clear();
+        Set<Integer> deleted = new HashSet<>();
+        Map<String, T> tail = new LinkedHashMap<>();
+        for (Map.Entry<String, T> change : changes) {
+            String key = change.getKey();
+            T record = change.getValue();
+            Integer position = scanned.keyPositions.get(key);
+            boolean inPlace = position != null && !deleted.contains(position);
+            if (record == null) {
+                if (inPlace) {
+                    deleted.add(position);
+                    updates.remove(position);
+                } else {
+                    tail.remove(key);
+                }
+            } else if (inPlace) {
+                updates.put(position, record);
+            } else {
+                tail.put(key, record);
+            }
+        }
+        appended.addAll(tail.values());
+        deletedPositions = deleted.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /**
+     * Number of records, including those added with {@link #append}.
+     */
+    public synchronized int size() {
+        ensureIndexed();
+        return index.count - deletedPositions.length + appended.size();
+    }
+
+    /**
+     * Adds a record that was queued for writing after the last refresh, so it is visible without one.
+     * If the refresh already read it from the journal, it is replaced in place instead.
+     *
+     * @return the position of the record
+     */
+    public synchronized int append(T record) {
+        ensureIndexed();
+        int snapshotSize = index.count - deletedPositions.length;
+        String key = journal.keyOf(record);
+        for (int i = 0; i < appended.size(); i++) {
+            if (key.equals(journal.keyOf(appended.get(i)))) {
+                appended.set(i, record);
+                return snapshotSize + i;
+            }
+        }
+        appended.add(record);
+        return snapshotSize + appended.size() - 1;
+    }
+
+    /**
+     * Returns the records at positions [from, to), in storage order.
+     */
+    public synchronized List<T> read(int from, int to) {
+        ensureIndexed();
+        for (int attempt = 1; ; attempt++) {
+            if (isStale()) {
+                refresh();
+            }
+            try {
+                return readIndexed(from, Math.min(to, size()));
+            } catch (IOException | JsonParseException e) {
+                if (attempt >= 2) {
+                    e.printStackTrace();
+                    return new ArrayList<>();
+                }
+                // The file was replaced between the staleness check and the read
+                refresh();
+            }
+        }
+    }
+
+    private List<T> readIndexed(int from, int to) throws IOException {
+        List<T> result = new ArrayList<>(Math.max(0, to - from));
+        int snapshotSize = index.count - deletedPositions.length;
+        if (from < snapshotSize) {
+            int wanted = Math.min(to, snapshotSize) - from;
+            int position = positionOf(from);
+            while (result.size() < wanted && position < index.count) {
+                int page = position / pageSize;
+                int skip = position % pageSize;
+                List<T> records = FileManager.readArrayRange(journal.getSnapshotFile(), index.pageOffsets[page],
+                        skip, pageSize - skip, journal.getType());
+                for (T record : records) {
+                    if (result.size() < wanted && Arrays.binarySearch(deletedPositions, position) < 0) {
+                        T updated = updates.get(position);
+                        result.add(updated != null ? updated : record);
+                    }
+                    position++;
+                }
+                if (records.isEmpty()) {
+                    throw new IOException("Snapshot shorter than its index: " + journal.getSnapshotFile());
+                }
+            }
+        }
+        for (int i = Math.max(from, snapshotSize); i < to; i++) {
+            result.add(appended.get(i - snapshotSize));
+        }
+        return result;
+    }
+
+    /**
+     * Maps a record number to its position in the snapshot, stepping over deleted positions.
+     */
+    private int positionOf(int recordNumber) {
+        int position = recordNumber;
+        for (int deleted : deletedPositions) {
+            if (deleted <= position) {
+                position++;
+            } else {
+                break;
+            }
+        }
+        return position;
+    }
+
+    private void ensureIndexed() {
+        if (index == null) {
+            refresh();
+        }
+    }
+
+    private boolean isStale() {
+        File file = FileManager.dataPath(journal.getSnapshotFile()).toFile();
+        return file.lastModified() != snapshotModified || file.length() != snapshotLength;
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanagement.util;
+
+import java.io.File;
+import java.util.function.Function;
+
+/**
+ * Requests split by status into two journaled files (e.g. leaverequests/pending.json and
+ * leaverequests/decided.json). Pending requests stay a small file no matter how many decided
+ * requests pile up; a decision moves the request from one file to the other.
+ * A single-file store from an older version (e.g. leaverequests.json) is split on first use.
+ */
+public class RequestStore<T> {
+    public static final String PENDING = "PENDING";
+
+    private final String dataDir;
+    private final String name;
+    private final Class<T> type;
+    private final Function<T, String> keyExtractor;
+    private final Function<T, String> statusExtractor;
+    private final EntityJournal<T> pending;
+    private final EntityJournal<T> decided;
+    private volatile boolean ready;
+
+    /**
+     * @param name directory name of the two files and base name of the legacy single file
+     */
+    public RequestStore(String dataDir, String name, Class<T> type, Function<T, String> keyExtractor,
+                        Function<T, String> statusExtractor) {
+        this.dataDir = dataDir;
+        this.name = name;
+        this.type = type;
+        this.keyExtractor = keyExtractor;
+        this.statusExtractor = statusExtractor;
+        this.pending = new EntityJournal<>(dataDir, name + "/pending.json", type, keyExtractor);
+        this.decided = new EntityJournal<>(dataDir, name + "/decided.json", type, keyExtractor);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String keyOf(T record) {
+        return keyExtractor.apply(record);
+    }
+
+    public boolean isPending(T record) {
+        return PENDING.equals(statusExtractor.apply(record));
+    }
+
+    /**
+     * The file of requests still waiting for a decision.
+     */
+    public EntityJournal<T> getPending() {
+        ensureReady();
+        return pending;
+    }
+
+    /**
+     * The file of approved and rejected requests.
+     */
+    public EntityJournal<T> getDecided() {
+        ensureReady();
+        return decided;
+    }
+
+    /**
+     * Returns the file a request belongs in, by its status.
+     */
+    public EntityJournal<T> partitionOf(T record) {
+        return isPending(record) ? getPending() : getDecided();
+    }
+
+    /**
+     * Creates the directory and splits a legacy single file by status, once per run.
+     */
+    private void ensureReady() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (ready) {
+                return;
+            }
+            File dir = new File(dataDir, name);
+            if (!dir.exists()) {
+                dir.mkdirs();
+            }
+            FileManager.deleteLeftoverTempFiles(dir.toPath());
+            FileManager.splitLegacyFile(new EntityJournal<>(dataDir, name + ".json", type, keyExtractor),
+                    record -> isPending(record) ? pending : decided);
+            ready = true;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskmanagement.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of application startup, from JVM launch to the first painted frame.
+ * Each mark ends a phase that started at the previous mark; the first phase starts when
+ * the JVM process did. The report is printed once, and also appended as a CSV line to the
+ * file named by the "startup.report" setting, tagged with the "startup.label" setting,
+ * so runs can be compared.
+ */
+public class StartupTimer {
+    private static final long CLASS_LOADED_NANOS = System.nanoTime();
+    private static final long NANOS_SINCE_PROCESS_START = nanosSinceProcessStart();
+
+    private static final Map<String, Long> phases = new LinkedHashMap<>();
+    private static long lastMarkNanos = CLASS_LOADED_NANOS - NANOS_SINCE_PROCESS_START;
+    private static boolean reported;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Ends a phase, e.g. mark("FXML load") right after the FXML was loaded.
+     */
+    public static synchronized void mark(String phase) {
+        long now = System.nanoTime();
+        phases.merge(phase, now - lastMarkNanos, Long::sum);
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Milliseconds spent in each phase so far, in the order they ended.
+     */
+    public static synchronized Map<String, Long> getPhaseMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            millis.put(phase.getKey(), TimeUnit.NANOSECONDS.toMillis(phase.getValue()));
+        }
+        return millis;
+    }
+
+    /**
+     * Prints the phases and their total, once per run.
+     */
+    public static synchronized void report() {
+        if (reported) {
+            return;
+        }
+        reported = true;
+        Map<String, Long> millis = getPhaseMillis();
+        long total = 0;
+        StringBuilder line = new StringBuilder("Startup:");
+        StringBuilder csv = new StringBuilder(LocalDateTime.now().toString())
+                .append(',').append(AppConfig.getString("startup.label", ""));
+        for (Map.Entry<String, Long> phase : millis.entrySet()) {
+            line.append(' ').append(phase.getKey()).append(' ').append(phase.getValue()).append(" ms,");
+            csv.append(',').append(phase.getKey()).append('=').append(phase.getValue());
+            total += phase.getValue();
+        }
+        line.append(" total ").append(total).append(" ms");
+        csv.append(",total=").append(total);
+        System.out.println(line);
+
+        String reportFile = AppConfig.getString("startup.report", null);
+        if (reportFile != null) {
+            try {
+                Files.write(Paths.get(reportFile), (csv + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static long nanosSinceProcessStart() {
+        return ProcessHandle.current().info().startInstant()
+                .map(start -> TimeUnit.MILLISECONDS.toNanos(Instant.now().toEpochMilli() - start.toEpochMilli()))
+                .orElse(0L);
+    }
+}